@@ -0,0 +1,44 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import utils.DateTimeNormalizer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DateTimeNormalizer.normalize per input format - later formats in its lookup order cost more.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DateTimeNormalizerBenchmark {
+
+    // Index into SyntheticPayloads.DATETIME_SAMPLES
+    @Param({"0", "1", "2", "3", "4", "5", "6"})
+    private int format;
+
+    private String datetime;
+
+    @Setup
+    public void setUp() {
+        datetime = SyntheticPayloads.DATETIME_SAMPLES[format];
+    }
+
+    @Benchmark
+    public String normalize() {
+        return DateTimeNormalizer.normalize(datetime);
+    }
+}
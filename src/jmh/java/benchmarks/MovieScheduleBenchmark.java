@@ -0,0 +1,57 @@
+package benchmarks;
+
+import model.api.response.MovieSchedule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MovieSchedule lookups used by the dropdown tests (TC35) over schedules of 100 to 10k showtimes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MovieScheduleBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int showtimes;
+
+    private MovieSchedule schedule;
+    private String branchId;
+
+    @Setup
+    public void setUp() {
+        schedule = SyntheticPayloads.movieSchedule(showtimes);
+        branchId = SyntheticPayloads.branchId(0);
+    }
+
+    @Benchmark
+    public Set<String> getShowtimeIds() {
+        return schedule.getShowtimeIds();
+    }
+
+    @Benchmark
+    public Map<String, String> getCinemaBranchIdToNameMap() {
+        return schedule.getCinemaBranchIdToNameMap();
+    }
+
+    @Benchmark
+    public Map<String, String> getShowtimeIdToDatetimeMap() {
+        return schedule.getShowtimeIdToDatetimeMap(branchId);
+    }
+}
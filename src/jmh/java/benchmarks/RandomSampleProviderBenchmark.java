@@ -0,0 +1,50 @@
+package benchmarks;
+
+import helpers.providers.RandomSampleProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RandomSampleProvider seat picking from the available seats of a 200-seat hall.
+ * INFO logging is off in benchmark runs (log4j2-test.xml), so this measures the sampling, not the console.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RandomSampleProviderBenchmark {
+
+    @Param({"1", "8"})
+    private int sampleSize;
+
+    private List<String> availableSeats;
+
+    @Setup
+    public void setUp() {
+        availableSeats = SyntheticPayloads.showtimeBooking(200).getAvailableSeats();
+    }
+
+    @Benchmark
+    public List<String> getRandomSamplesFromList() {
+        return RandomSampleProvider.getRandomSamplesFromList(availableSeats, sampleSize);
+    }
+
+    @Benchmark
+    public List<String> getRandomSamplesInRange() {
+        return RandomSampleProvider.getRandomSamplesFromList(availableSeats, 1, sampleSize);
+    }
+}
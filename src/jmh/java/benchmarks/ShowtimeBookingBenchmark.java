@@ -0,0 +1,62 @@
+package benchmarks;
+
+import model.api.response.ShowtimeBooking;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ShowtimeBooking seat queries over a hall's seat map, as called by the booking tests and verification helpers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ShowtimeBookingBenchmark {
+
+    @Param({"200"})
+    private int seats;
+
+    private ShowtimeBooking booking;
+
+    @Setup
+    public void setUp() {
+        booking = SyntheticPayloads.showtimeBooking(seats);
+    }
+
+    @Benchmark
+    public List<String> getAvailableSeats() {
+        return booking.getAvailableSeats();
+    }
+
+    @Benchmark
+    public List<String> getReservedSeats() {
+        return booking.getReservedSeats();
+    }
+
+    // Both counts together, the way booking verification reads them
+    @Benchmark
+    public void getSeatCounts(Blackhole blackhole) {
+        blackhole.consume(booking.getAvailableSeatsCount());
+        blackhole.consume(booking.getReservedSeatsCount());
+    }
+
+    @Benchmark
+    public String getShowingDateTimeNormalized() {
+        return booking.getShowingDateTimeNormalized();
+    }
+}
@@ -0,0 +1,118 @@
+package benchmarks;
+
+import model.api.response.MovieSchedule;
+import model.api.response.ShowtimeBooking;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Synthetic API payloads shaped like the real movie schedule and seat map responses, for benchmarks.
+ * Built from a fixed seed, so every run (and every commit) benchmarks the same data.
+ */
+public class SyntheticPayloads {
+
+    private static final long SEED = 42;
+    private static final int CINEMA_SYSTEMS = 6;
+    private static final int BRANCHES_PER_SYSTEM = 8;
+    private static final LocalDateTime FIRST_SHOWTIME = LocalDateTime.of(2021, 10, 17, 8, 0);
+
+    // One sample per format accepted by DateTimeNormalizer, in its lookup order
+    public static final String[] DATETIME_SAMPLES = {
+            "24/12/2021 ~ 13:35",
+            "17/10/2021 -08:10",
+            "17/10/2021 08:10",
+            "01-01-2019 ~ 14:10",
+            "11-01-2026 | 16:48",
+            "2021-10-17T08:43:00",
+            "17-10-2021 08:43"
+    };
+
+    private SyntheticPayloads() {
+        // utility class, no instantiation
+    }
+
+    /**
+     * Build a movie schedule with the given number of showtimes spread over 6 cinema systems x 8 branches,
+     * with ISO datetimes (ngayChieuGioChieu) like the API returns.
+     *
+     * @param showtimeCount Total number of showtimes
+     * @return Movie schedule
+     */
+    public static MovieSchedule movieSchedule(int showtimeCount) {
+        List<MovieSchedule.CinemaSystemShowtimes> systems = new ArrayList<>();
+        List<MovieSchedule.CinemaBranchShowtimes> branches = new ArrayList<>();
+        for (int s = 0; s < CINEMA_SYSTEMS; s++) {
+            MovieSchedule.CinemaSystemShowtimes system = new MovieSchedule.CinemaSystemShowtimes();
+            system.setMaHeThongRap("SYSTEM" + s);
+            system.setTenHeThongRap("Cinema System " + s);
+            system.setCumRapChieu(new ArrayList<>());
+            for (int b = 0; b < BRANCHES_PER_SYSTEM; b++) {
+                MovieSchedule.CinemaBranchShowtimes branch = new MovieSchedule.CinemaBranchShowtimes();
+                branch.setMaCumRap(branchId(s * BRANCHES_PER_SYSTEM + b));
+                // API names and IDs come with stray whitespace, trimmed by MovieSchedule
+                branch.setTenCumRap(" Branch " + s + "-" + b + " ");
+                branch.setLichChieuPhim(new ArrayList<>());
+                system.getCumRapChieu().add(branch);
+                branches.add(branch);
+            }
+            systems.add(system);
+        }
+
+        for (int i = 0; i < showtimeCount; i++) {
+            MovieSchedule.ShowtimeDetails showtime = new MovieSchedule.ShowtimeDetails();
+            showtime.setMaLichChieu(String.valueOf(40_000 + i));
+            showtime.setMaRap(String.valueOf(450 + i % 10));
+            showtime.setTenRap("Rạp " + (i % 10 + 1));
+            showtime.setThoiLuong("120");
+            showtime.setNgayChieuGioChieu(FIRST_SHOWTIME.plusMinutes(15L * i)
+                    .format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+            branches.get(i % branches.size()).getLichChieuPhim().add(showtime);
+        }
+
+        MovieSchedule schedule = new MovieSchedule();
+        schedule.setHeThongRapChieu(systems);
+        return schedule;
+    }
+
+    /**
+     * Build the seat map of one showtime, with about a third of the seats booked at random.
+     *
+     * @param seatCount Number of seats in the hall
+     * @return Showtime booking data
+     */
+    public static ShowtimeBooking showtimeBooking(int seatCount) {
+        Random random = new Random(SEED);
+        List<ShowtimeBooking.SeatBookingData> seats = new ArrayList<>(seatCount);
+        for (int i = 0; i < seatCount; i++) {
+            ShowtimeBooking.SeatBookingData seat = new ShowtimeBooking.SeatBookingData();
+            seat.setMaGhe(48_000 + i);
+            seat.setTenGhe(String.format("%02d", i + 1));
+            seat.setLoaiGhe(i < seatCount / 2 ? "Thuong" : "Vip");
+            seat.setGiaVe(i < seatCount / 2 ? 75_000 : 90_000);
+            seat.setDaDat(random.nextInt(3) == 0);
+            seats.add(seat);
+        }
+
+        ShowtimeBooking.ShowtimeDetails details = new ShowtimeBooking.ShowtimeDetails();
+        details.setMaLichChieu(40_000);
+        details.setTenCumRap("Branch 0-0");
+        details.setTenRap("Rạp 1");
+        details.setDiaChi("Address 0-0");
+        details.setTenPhim("Movie");
+        details.setNgayChieu("17-10-2021");
+        details.setGioChieu("08:43");
+
+        ShowtimeBooking booking = new ShowtimeBooking();
+        booking.setThongTinPhim(details);
+        booking.setDanhSachGhe(seats);
+        return booking;
+    }
+
+    public static String branchId(int index) {
+        return "branch-" + index;
+    }
+}
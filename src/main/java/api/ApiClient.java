@@ -1,73 +1,195 @@
 package api;
 
-import io.restassured.RestAssured;
-import io.restassured.common.mapper.TypeRef;
-import io.restassured.http.ContentType;
-import io.restassured.response.Response;
-import io.restassured.specification.RequestSpecification;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import config.ConfigManager;
+import reports.TestTimings;
 
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable, thread-safe REST client.
+ *
+ * <p>Every {@code withX(...)} call returns a new ApiClient carrying the extra request setting,
+ * so one instance can be shared across parallel test threads without requests corrupting each other:
+ * <pre>
+ *     apiClient.withQueryParam("maPhim", movieId).getAndDeserialize(endpoint, MovieSchedule.class);
+ * </pre>
+ *
+ * <p>All instances send requests through one shared JDK HttpClient, which keeps TCP/TLS connections
+ * alive and reuses them across all services. Async variants return a CompletableFuture.
+ */
 public class ApiClient {
-    private String baseUri;
-    private RequestSpecification requestSpec;
+
+    // Shared by all clients - HttpClient is thread-safe and pools keep-alive connections
+    private static final HttpClient HTTP_CLIENT = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(ConfigManager.getExplicitWait()))
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+
+    static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .findAndRegisterModules()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final String baseUri;
+    private final Map<String, List<String>> queryParams;
+    private final Map<String, String> headers;
+    private final Object body;
 
     public ApiClient(String baseUri) {
-        this.baseUri = baseUri;
-        initializeRequestSpec();
+        this(baseUri, Map.of(), Map.of("Content-Type", "application/json"), null);
     }
 
-    private void initializeRequestSpec() {
-        // Initialize the request specification with common settings
-        this.requestSpec = RestAssured.given()
-//                .config(RestAssured.config()
-//                        .encoderConfig(encoderConfig()
-//                                .appendDefaultContentCharsetToContentTypeIfUndefined(false)))
-                .baseUri(baseUri)
-                .contentType(ContentType.JSON)
-                .header("Content-Type", "application/json")
-//                .log()
-//                .all()
-                ;
+    private ApiClient(String baseUri, Map<String, List<String>> queryParams, Map<String, String> headers, Object body) {
+        this.baseUri = baseUri;
+        this.queryParams = queryParams;
+        this.headers = headers;
+        this.body = body;
     }
 
+    // ---- Request Builders (return a new client, this one is unchanged) ----
     public ApiClient withQueryParam(String name, Object value) {
-        requestSpec.queryParam(name, value);
-        return this;
+        Map<String, List<String>> params = new LinkedHashMap<>(queryParams);
+        List<String> values = new ArrayList<>(params.getOrDefault(name, List.of()));
+        values.add(String.valueOf(value));
+        params.put(name, List.copyOf(values));
+        return new ApiClient(baseUri, Map.copyOf(params), headers, body);
     }
 
     public ApiClient withBody(Object body) {
-        requestSpec.body(body);
-        return this;
+        return new ApiClient(baseUri, queryParams, headers, body);
     }
 
     public ApiClient withAuthToken(String token) {
-        requestSpec.header("Authorization", "Bearer " + token);
-        return this;
+        return withHeader("Authorization", "Bearer " + token);
+    }
+
+    public ApiClient withHeader(String name, String value) {
+        Map<String, String> newHeaders = new LinkedHashMap<>(headers);
+        newHeaders.put(name, value);
+        return new ApiClient(baseUri, queryParams, Map.copyOf(newHeaders), body);
     }
 
-    public Response get(String endpoint) {
-        Response response = requestSpec.get(endpoint);
-        initializeRequestSpec(); // Reset for next call
-        return response;
+    // ---- Blocking Calls ----
+    public ApiResponse get(String endpoint) {
+        return send("GET", endpoint);
     }
 
-    public Response post(String endpoint) {
-        Response response = requestSpec.post(endpoint);
-        initializeRequestSpec(); // Reset for next call
-        return response;
+    public ApiResponse post(String endpoint) {
+        return send("POST", endpoint);
     }
 
-    public Response delete(String endpoint) {
-        Response response = requestSpec.delete(endpoint);
-        initializeRequestSpec(); // Reset for next call
-        return response;
+    public ApiResponse delete(String endpoint) {
+        return send("DELETE", endpoint);
     }
 
     public <T> T getAndDeserialize(String endpoint, Class<T> responseType) {
-        return get(endpoint).then().extract().as(responseType);
+        return get(endpoint).as(responseType);
+    }
+
+    public <T> T getAndDeserialize(String endpoint, TypeReference<T> typeRef) {
+        return get(endpoint).as(typeRef);
+    }
+
+    // ---- Async Calls ----
+    public CompletableFuture<ApiResponse> getAsync(String endpoint) {
+        return sendAsync("GET", endpoint);
+    }
+
+    public CompletableFuture<ApiResponse> postAsync(String endpoint) {
+        return sendAsync("POST", endpoint);
+    }
+
+    public CompletableFuture<ApiResponse> deleteAsync(String endpoint) {
+        return sendAsync("DELETE", endpoint);
     }
 
-    public <T> T getAndDeserialize(String endpoint, TypeRef<T> typeRef) {
-        return get(endpoint).then().extract().as(typeRef);
+    public <T> CompletableFuture<T> getAndDeserializeAsync(String endpoint, Class<T> responseType) {
+        return getAsync(endpoint).thenApply(response -> response.as(responseType));
     }
 
+    public <T> CompletableFuture<T> getAndDeserializeAsync(String endpoint, TypeReference<T> typeRef) {
+        return getAsync(endpoint).thenApply(response -> response.as(typeRef));
+    }
+
+    // ---- Private Helpers ----
+    private ApiResponse send(String method, String endpoint) {
+        // Timed as the "api" phase of the current test (no-op outside a test)
+        return TestTimings.time("api", () -> doSend(method, endpoint));
+    }
+
+    private ApiResponse doSend(String method, String endpoint) {
+        HttpRequest request = buildRequest(method, endpoint);
+        try {
+            HttpResponse<byte[]> response = HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            return new ApiResponse(response.statusCode(), response.body());
+        } catch (IOException e) {
+            throw new IllegalStateException(method + " " + request.uri() + " failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(method + " " + request.uri() + " interrupted", e);
+        }
+    }
+
+    private CompletableFuture<ApiResponse> sendAsync(String method, String endpoint) {
+        HttpRequest request = buildRequest(method, endpoint);
+        // Completes on another thread - record into the calling test's timing
+        TestTimings.TestTiming timing = TestTimings.current();
+        long start = System.nanoTime();
+        return HTTP_CLIENT.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .whenComplete((response, error) -> {
+                    if (timing != null) {
+                        timing.record("api", System.nanoTime() - start);
+                    }
+                })
+                .thenApply(response -> new ApiResponse(response.statusCode(), response.body()));
+    }
+
+    private HttpRequest buildRequest(String method, String endpoint) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(buildUri(endpoint))
+                .timeout(Duration.ofSeconds(ConfigManager.getLongWait()))
+                .method(method, bodyPublisher());
+        headers.forEach(builder::header);
+        return builder.build();
+    }
+
+    private HttpRequest.BodyPublisher bodyPublisher() {
+        if (body == null) {
+            return HttpRequest.BodyPublishers.noBody();
+        }
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(OBJECT_MAPPER.writeValueAsBytes(body));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to serialize request body", e);
+        }
+    }
+
+    private URI buildUri(String endpoint) {
+        if (queryParams.isEmpty()) {
+            return URI.create(baseUri + endpoint);
+        }
+        String query = queryParams.entrySet().stream()
+                .flatMap(param -> param.getValue().stream()
+                        .map(value -> encode(param.getKey()) + "=" + encode(value)))
+                .collect(Collectors.joining("&"));
+        return URI.create(baseUri + endpoint + "?" + query);
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
 }
@@ -4,7 +4,18 @@ import config.ConfigManager;
 
 public class ApiConfig {
 
+    /**
+     * Base URI used by the api.services layer - the local record / replay stub server
+     * when api.stub.mode is set (see ApiStubServer), else the live API.
+     */
     public static String getBaseUri() {
+        if (ApiStubServer.isEnabled()) {
+            return ApiStubServer.getInstance(getLiveBaseUri()).getBaseUri();
+        }
+        return getLiveBaseUri();
+    }
+
+    public static String getLiveBaseUri() {
         String uri = ConfigManager.getProperty("api.uri");
         if (uri != null && !uri.trim().isEmpty()) return uri;
         return buildApiBaseUriFromEnv();
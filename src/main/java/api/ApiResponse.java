@@ -0,0 +1,67 @@
+package api;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.restassured.path.json.JsonPath;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Immutable HTTP response returned by ApiClient.
+ * Holds status code and raw body, with helpers to deserialize (Jackson) or query (JsonPath) the JSON body.
+ */
+public class ApiResponse {
+
+    private final int statusCode;
+    private final byte[] body;
+
+    public ApiResponse(int statusCode, byte[] body) {
+        this.statusCode = statusCode;
+        this.body = body;
+    }
+
+    public int statusCode() {
+        return statusCode;
+    }
+
+    public byte[] asBytes() {
+        return body;
+    }
+
+    public String asString() {
+        return new String(body, StandardCharsets.UTF_8);
+    }
+
+    public JsonPath jsonPath() {
+        return JsonPath.from(asString());
+    }
+
+    public <T> T as(Class<T> responseType) {
+        try {
+            return ApiClient.OBJECT_MAPPER.readValue(body, responseType);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to deserialize response to " + responseType.getSimpleName(), e);
+        }
+    }
+
+    public <T> T as(TypeReference<T> typeRef) {
+        try {
+            return ApiClient.OBJECT_MAPPER.readValue(body, typeRef);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to deserialize response to " + typeRef.getType(), e);
+        }
+    }
+
+    /**
+     * Fail if the response status code is not the expected one.
+     *
+     * @param expectedStatusCode Expected HTTP status code
+     * @return this response, for chaining
+     */
+    public ApiResponse assertStatusCode(int expectedStatusCode) {
+        if (statusCode != expectedStatusCode) {
+            throw new IllegalStateException("Expected status code " + expectedStatusCode +
+                    " but was " + statusCode + ". Response body: " + asString());
+        }
+        return this;
+    }
+}
@@ -0,0 +1,282 @@
+package api;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import config.ConfigManager;
+import lombok.Data;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * Embedded HTTP server standing in for the backend API of the api.services layer.
+ *
+ * <p>Enabled with api.stub.mode (ApiConfig.getBaseUri() then points at this server):
+ * <ul>
+ *   <li>record - requests are forwarded to the live API and every request/response pair is saved
+ *   as one JSON file per method, endpoint and query in api.stub.dir</li>
+ *   <li>replay - requests are served from the saved files, with api.stub.latencyMillis of injected latency;
+ *   a request without recording gets a 404. No network access needed</li>
+ * </ul>
+ * Recordings are keyed by method, path and query parameters (in any order). Request bodies are not part of the key,
+ * so e.g. every registration replays the last recorded registration response.
+ * Recordings contain the responses as returned by the API, including login tokens.
+ *
+ * <p>A restarted server (shutdown() then getInstance()) binds the port of the first one, so ApiClients that
+ * kept the base URI in a static field still reach it in a later suite of the same JVM.
+ */
+public class ApiStubServer {
+
+    private static final Logger LOG = LogManager.getLogger(ApiStubServer.class);
+
+    public static final String MODE_RECORD = "record";
+    public static final String MODE_REPLAY = "replay";
+
+    // Hop-by-hop / computed headers not forwarded to the live API
+    private static final Set<String> SKIPPED_HEADERS = Set.of("host", "connection", "content-length", "expect", "upgrade");
+
+    private static volatile ApiStubServer instance;
+    // Port of the first server started in this JVM, 0 until then
+    private static volatile int boundPort;
+
+    private final String mode;
+    private final String liveBaseUri;
+    private final Path recordingDir;
+    private final long latencyMillis;
+    private final HttpServer server;
+    private final HttpClient httpClient;
+    // Recording key -> recording (replay cache)
+    private final Map<String, Recording> recordings = new ConcurrentHashMap<>();
+
+    ApiStubServer(String mode, String liveBaseUri, Path recordingDir, long latencyMillis, int port) throws IOException {
+        this.mode = mode;
+        this.liveBaseUri = liveBaseUri;
+        this.recordingDir = recordingDir;
+        this.latencyMillis = latencyMillis;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(ConfigManager.getExplicitWait()))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+
+        Files.createDirectories(recordingDir);
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+        LOG.info("API stub server (" + mode + ") started on " + getBaseUri() + ", recordings: " + recordingDir.toAbsolutePath());
+    }
+
+    /**
+     * Check whether the API stub is enabled (api.stub.mode is record or replay).
+     */
+    public static boolean isEnabled() {
+        String mode = ConfigManager.getApiStubMode();
+        return MODE_RECORD.equals(mode) || MODE_REPLAY.equals(mode);
+    }
+
+    /**
+     * Get the running stub server, starting it on first use.
+     *
+     * @param liveBaseUri Base URI of the live API (forwarded to in record mode)
+     * @return Stub server
+     */
+    public static ApiStubServer getInstance(String liveBaseUri) {
+        if (instance == null) {
+            synchronized (ApiStubServer.class) {
+                if (instance == null) {
+                    try {
+                        instance = new ApiStubServer(ConfigManager.getApiStubMode(), liveBaseUri,
+                                Paths.get(ConfigManager.getApiStubDir()), ConfigManager.getApiStubLatencyMillis(), boundPort);
+                        boundPort = instance.getPort();
+                    } catch (IOException e) {
+                        throw new IllegalStateException("Failed to start API stub server", e);
+                    }
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Stop the stub server if it was started. Call once in @AfterSuite.
+     */
+    public static void shutdown() {
+        synchronized (ApiStubServer.class) {
+            if (instance != null) {
+                instance.stop();
+                instance = null;
+            }
+        }
+    }
+
+    public String getBaseUri() {
+        return "http://" + server.getAddress().getHostString() + ":" + getPort();
+    }
+
+    int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    void stop() {
+        server.stop(0);
+        httpClient.close();
+    }
+
+    // ---- Private Helpers ----
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+            URI uri = exchange.getRequestURI();
+            byte[] requestBody = exchange.getRequestBody().readAllBytes();
+            String key = recordingKey(method, uri.getPath(), uri.getRawQuery());
+
+            Recording recording = MODE_RECORD.equals(mode)
+                    ? record(key, exchange, requestBody)
+                    : replay(key);
+            if (recording == null) {
+                LOG.warn("No API recording for " + method + " " + uri + " in " + recordingDir);
+                respond(exchange, 404, "application/json",
+                        ("{\"message\":\"No recording for " + method + " " + uri.getPath() + "\"}").getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            respond(exchange, recording.getStatus(), recording.getContentType(),
+                    recording.getBody().getBytes(StandardCharsets.UTF_8));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            respond(exchange, 503, "text/plain", "Interrupted".getBytes(StandardCharsets.UTF_8));
+        } catch (Exception e) {
+            LOG.warn("API stub failed for " + exchange.getRequestURI(), e);
+            respond(exchange, 502, "text/plain", String.valueOf(e.getMessage()).getBytes(StandardCharsets.UTF_8));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private Recording record(String key, HttpExchange exchange, byte[] requestBody) throws IOException, InterruptedException {
+        URI uri = exchange.getRequestURI();
+        String target = liveBaseUri + uri.getRawPath() + (uri.getRawQuery() == null ? "" : "?" + uri.getRawQuery());
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(target))
+                .timeout(Duration.ofSeconds(ConfigManager.getLongWait()))
+                .method(exchange.getRequestMethod(), requestBody.length == 0
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(requestBody));
+        exchange.getRequestHeaders().forEach((name, values) -> {
+            if (!SKIPPED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                values.forEach(value -> builder.header(name, value));
+            }
+        });
+
+        HttpResponse<byte[]> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        Recording recording = new Recording();
+        recording.setMethod(exchange.getRequestMethod());
+        recording.setPath(uri.getPath());
+        recording.setQuery(uri.getQuery());
+        recording.setStatus(response.statusCode());
+        recording.setContentType(response.headers().firstValue("Content-Type").orElse("application/json"));
+        recording.setBody(new String(response.body(), StandardCharsets.UTF_8));
+
+        writeRecording(key, recording);
+        recordings.put(key, recording);
+        return recording;
+    }
+
+    // Write to a temp file first and move it in place, so a replay never reads a half-written recording
+    private void writeRecording(String key, Recording recording) throws IOException {
+        Path tempFile = Files.createTempFile(recordingDir, key, ".tmp");
+        try {
+            ApiClient.OBJECT_MAPPER.writer(SerializationFeature.INDENT_OUTPUT).writeValue(tempFile.toFile(), recording);
+            Files.move(tempFile, recordingDir.resolve(key + ".json"),
+                    StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private Recording replay(String key) throws InterruptedException {
+        Recording recording = recordings.computeIfAbsent(key, this::load);
+        if (recording != null && latencyMillis > 0) {
+            Thread.sleep(latencyMillis);
+        }
+        return recording;
+    }
+
+    private Recording load(String key) {
+        Path file = recordingDir.resolve(key + ".json");
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try {
+            return ApiClient.OBJECT_MAPPER.readValue(file.toFile(), Recording.class);
+        } catch (IOException e) {
+            LOG.warn("Failed to read API recording: " + file, e);
+            return null;
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    /**
+     * File name of a recording: METHOD_path_queryhash, e.g. GET_api_QuanLyDatVe_LayDanhSachPhongVe_3f2a9c1b7d4e.
+     * Query parameters are sorted so their order doesn't matter.
+     */
+    private static String recordingKey(String method, String path, String rawQuery) {
+        String safePath = path.replaceAll("[^A-Za-z0-9]+", "_").replaceAll("^_|_$", "");
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return method + "_" + safePath;
+        }
+        String sortedQuery = Arrays.stream(rawQuery.split("&")).sorted().collect(Collectors.joining("&"));
+        return method + "_" + safePath + "_" + sha256(sortedQuery).substring(0, 12);
+    }
+
+    private static String sha256(String value) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    @Data
+    static class Recording {
+        private String method;
+        private String path;
+        private String query;
+        private int status;
+        private String contentType;
+        private String body;
+    }
+}
@@ -0,0 +1,274 @@
+package api;
+
+import config.ConfigManager;
+import model.api.response.MovieSchedule;
+import model.api.response.ShowtimeBooking;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Captures the JSON responses the browser received from whitelisted API endpoints
+ * (Chrome DevTools Protocol network events), so tests can verify the UI against the exact payload it rendered
+ * instead of sending the same request again through the API services.
+ *
+ * <p>Usage:
+ * <pre>
+ *     BrowserResponseCapture.forDriver(driver).getShowtimeBooking(showtimeId)
+ *             .orElseGet(() -> bookingService.getShowtimeBookingData(showtimeId));
+ * </pre>
+ * Attach once per session right after the driver is created (see BaseTest) - responses received before attaching
+ * are not captured. Only the latest response per URL is kept. Browsers without CDP (Firefox, Safari) capture nothing,
+ * so callers always keep the API service call as fallback.
+ */
+public class BrowserResponseCapture {
+
+    private static final Logger LOG = LogManager.getLogger(BrowserResponseCapture.class);
+
+    // Endpoints whose responses are captured - only those read by a getter below, since each capture costs
+    // a getResponseBody round trip
+    private static final Set<String> CAPTURED_ENDPOINTS = Set.of(
+            ApiConstants.MOVIE_SHOWTIME_ENDPOINT,
+            ApiConstants.SHOWTIME_BOOKING_DATA_ENDPOINT);
+
+    // Session -> capture; weak keys so quit sessions don't stay reachable
+    private static final Map<WebDriver, BrowserResponseCapture> captures = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private static final BrowserResponseCapture UNSUPPORTED = new BrowserResponseCapture(null);
+
+    private final DevTools devTools;
+    // Request ID -> response metadata, between responseReceived and loadingFinished
+    private final Map<String, CapturedResponse> pending = new ConcurrentHashMap<>();
+    // URL -> latest complete response
+    private final Map<String, CapturedResponse> responses = new ConcurrentHashMap<>();
+
+    private BrowserResponseCapture(DevTools devTools) {
+        this.devTools = devTools;
+    }
+
+    /**
+     * Start capturing API responses of a session. Does nothing if the session is already captured.
+     *
+     * @param driver WebDriver session (decorated drivers are unwrapped)
+     * @return Capture of the session
+     */
+    public static BrowserResponseCapture forDriver(WebDriver driver) {
+        WebDriver session = driver;
+        while (session instanceof WrapsDriver wrapper && wrapper.getWrappedDriver() != session) {
+            session = wrapper.getWrappedDriver();
+        }
+        synchronized (captures) {
+            return captures.computeIfAbsent(session, BrowserResponseCapture::create);
+        }
+    }
+
+    /**
+     * Forget captured responses, e.g. when a pooled session starts a new test.
+     */
+    public void clear() {
+        pending.clear();
+        responses.clear();
+    }
+
+    public boolean isSupported() {
+        return devTools != null;
+    }
+
+    /**
+     * Get the showtime booking data (showtime details and seat map) the booking page received.
+     * Waits up to short.wait for the response if the page is still loading.
+     *
+     * @param showtimeId Showtime ID (maLichChieu)
+     * @return Captured payload, or empty if the browser didn't request it (or capture is not supported)
+     */
+    public Optional<ShowtimeBooking> getShowtimeBooking(String showtimeId) {
+        return awaitResponse(ApiConstants.SHOWTIME_BOOKING_DATA_ENDPOINT, "maLichChieu", showtimeId, shortWait())
+                .map(response -> response.as(ShowtimeBooking.class));
+    }
+
+    /**
+     * Get the movie schedule the home page received when the movie was selected in the showtime filter.
+     * Waits up to short.wait for the response if the page is still loading.
+     *
+     * @param movieId Movie ID (maPhim)
+     * @return Captured payload, or empty if the browser didn't request it (or capture is not supported)
+     */
+    public Optional<MovieSchedule> getMovieSchedule(String movieId) {
+        return awaitResponse(ApiConstants.MOVIE_SHOWTIME_ENDPOINT, "maPhim", movieId, shortWait())
+                .map(response -> response.as(MovieSchedule.class));
+    }
+
+    /**
+     * Wait for a captured response of an endpoint with the given query parameter value.
+     * Query parameter names are matched case-insensitively (the UI and the API services don't use the same case).
+     *
+     * @param endpoint   Endpoint path from ApiConstants
+     * @param queryParam Query parameter name
+     * @param value      Expected query parameter value
+     * @param timeout    Max time to wait for the response
+     * @return Successful (2xx) response, or empty on timeout
+     */
+    public Optional<ApiResponse> awaitResponse(String endpoint, String queryParam, String value, Duration timeout) {
+        if (!isSupported()) {
+            return Optional.empty();
+        }
+
+        long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (this) {
+            while (true) {
+                Optional<ApiResponse> response = findResponse(endpoint, queryParam.toLowerCase(Locale.ROOT), value);
+                long remainingMillis = (deadline - System.nanoTime()) / 1_000_000;
+                if (response.isPresent() || remainingMillis <= 0) {
+                    return response;
+                }
+                try {
+                    wait(remainingMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return Optional.empty();
+                }
+            }
+        }
+    }
+
+    // ---- Private Helpers ----
+    private static BrowserResponseCapture create(WebDriver driver) {
+        if (!ConfigManager.isBrowserResponseCaptureEnabled() || !(driver instanceof HasDevTools hasDevTools)) {
+            return UNSUPPORTED;
+        }
+
+        try {
+            DevTools devTools = hasDevTools.getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            BrowserResponseCapture capture = new BrowserResponseCapture(devTools);
+
+            devTools.send(new Command<Void>("Network.enable", Map.of()));
+            devTools.addListener(networkEvent("Network.responseReceived"), capture::onResponseReceived);
+            devTools.addListener(networkEvent("Network.loadingFinished"), capture::onLoadingFinished);
+            devTools.addListener(networkEvent("Network.loadingFailed"), params -> capture.pending.remove(requestId(params)));
+            return capture;
+        } catch (RuntimeException e) {
+            LOG.warn("Browser response capture not available for " + driver + ": " + e.getMessage());
+            return UNSUPPORTED;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Event<Map<String, Object>> networkEvent(String method) {
+        return new Event<>(method, input -> (Map<String, Object>) input.read(Json.MAP_TYPE));
+    }
+
+    private static String requestId(Map<String, Object> params) {
+        return String.valueOf(params.get("requestId"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onResponseReceived(Map<String, Object> params) {
+        Map<String, Object> response = (Map<String, Object>) params.get("response");
+        URI uri;
+        try {
+            uri = URI.create(String.valueOf(response.get("url")));
+        } catch (IllegalArgumentException e) {
+            // Not a plain http(s) URL (data:, blob:...)
+            return;
+        }
+        String path = uri.getPath();
+        if (path == null || CAPTURED_ENDPOINTS.stream().noneMatch(path::endsWith)) {
+            return;
+        }
+        int status = ((Number) response.get("status")).intValue();
+        pending.put(requestId(params), new CapturedResponse(uri.toString(), path, parseQuery(uri.getRawQuery()), status));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onLoadingFinished(Map<String, Object> params) {
+        String requestId = requestId(params);
+        CapturedResponse captured = pending.remove(requestId);
+        if (captured == null) {
+            return;
+        }
+
+        try {
+            Map<String, Object> result = devTools.send(new Command<>("Network.getResponseBody",
+                    Map.of("requestId", requestId), input -> (Map<String, Object>) input.read(Json.MAP_TYPE)));
+            String body = String.valueOf(result.get("body"));
+            captured.body = Boolean.TRUE.equals(result.get("base64Encoded"))
+                    ? Base64.getDecoder().decode(body)
+                    : body.getBytes(StandardCharsets.UTF_8);
+        } catch (RuntimeException e) {
+            // Body already evicted (page navigated away)
+            LOG.debug("Failed to read captured response body: " + captured.url + " - " + e.getMessage());
+            return;
+        }
+
+        responses.put(captured.url, captured);
+        synchronized (this) {
+            notifyAll();
+        }
+    }
+
+    private Optional<ApiResponse> findResponse(String endpoint, String queryParam, String value) {
+        return responses.values().stream()
+                .filter(captured -> captured.path.endsWith(endpoint))
+                .filter(captured -> value.equals(captured.query.get(queryParam)))
+                .filter(captured -> captured.status / 100 == 2)
+                .max((a, b) -> Long.compare(a.capturedAt, b.capturedAt))
+                .map(captured -> new ApiResponse(captured.status, captured.body));
+    }
+
+    // Query string to map of lower-case name -> decoded value
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            String name = separator < 0 ? pair : pair.substring(0, separator);
+            String value = separator < 0 ? "" : pair.substring(separator + 1);
+            query.put(URLDecoder.decode(name, StandardCharsets.UTF_8).toLowerCase(Locale.ROOT),
+                    URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    private static Duration shortWait() {
+        return Duration.ofSeconds(ConfigManager.getShortWait());
+    }
+
+    private static class CapturedResponse {
+        private final String url;
+        private final String path;
+        private final Map<String, String> query;
+        private final int status;
+        private final long capturedAt = System.nanoTime();
+        private byte[] body;
+
+        private CapturedResponse(String url, String path, Map<String, String> query, int status) {
+            this.url = url;
+            this.path = path;
+            this.query = query;
+            this.status = status;
+        }
+    }
+}
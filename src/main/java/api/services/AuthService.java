@@ -3,8 +3,11 @@ package api.services;
 import api.ApiClient;
 import api.ApiConfig;
 import api.ApiConstants;
+import api.ApiResponse;
 import config.ConfigManager;
+import model.UserAccount;
 import model.api.request.LoginRequestPayload;
+import model.api.response.LoginResponse;
 import model.enums.UserType;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -16,7 +19,11 @@ public class AuthService {
     private static final ApiClient apiClient =
             new ApiClient(ApiConfig.getBaseUri());
 
-    private static String cachedAdminToken;
+    private static volatile String cachedAdminToken;
+
+    // Login responses per user - keyed by username and password, so a changed password triggers a new login.
+    // Logins run outside any map lock; a failed login is not cached.
+    private static final LoadingCache<LoginResponse> cachedUserSessions = new LoadingCache<>();
 
     public static String getAdminToken() {
         if (cachedAdminToken == null) {
@@ -36,4 +43,27 @@ public class AuthService {
         }
         return cachedAdminToken;
     }
-}
\ No newline at end of file
+
+    /**
+     * Log in as the given user through the API and return the session (token + user object).
+     * Sessions are cached per user, so repeated logins for the same account cost no API call.
+     *
+     * @param user The user account to log in as
+     * @return Login response with access token and raw user JSON
+     */
+    public static LoginResponse getUserSession(UserAccount user) {
+        String key = user.getUsername() + ":" + user.getPassword();
+        return cachedUserSessions.get(key, k -> login(user.getUsername(), user.getPassword()));
+    }
+
+    private static LoginResponse login(String username, String password) {
+        ApiResponse response = apiClient
+                .withBody(new LoginRequestPayload(username, password))
+                .post(ApiConstants.USER_LOGIN_ENDPOINT)
+                .assertStatusCode(200);
+
+        LOG.info("Logged in via API as user: " + username);
+
+        return new LoginResponse(response.jsonPath().getString("accessToken"), response.asString());
+    }
+}
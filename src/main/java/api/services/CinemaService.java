@@ -3,7 +3,7 @@ package api.services;
 import api.ApiClient;
 import api.ApiConfig;
 import utils.DateTimeNormalizer;
-import io.restassured.common.mapper.TypeRef;
+import com.fasterxml.jackson.core.type.TypeReference;
 import api.ApiConstants;
 import model.api.response.CinemaSystem;
 import model.api.response.CinemaBranch;
@@ -12,6 +12,7 @@ import model.api.response.MovieSchedule;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 public class CinemaService {
 
@@ -23,17 +24,17 @@ public class CinemaService {
 
     public List<CinemaSystem> getCinemaSystem() {
         return apiClient
-                .getAndDeserialize(ApiConstants.CINEMA_SYSTEM_ENDPOINT, new TypeRef<>() {});
+                .getAndDeserialize(ApiConstants.CINEMA_SYSTEM_ENDPOINT, new TypeReference<>() {});
     }
 
     public List<CinemaBranch> getCinemaBranches(String cinemaId) {
         return apiClient.withQueryParam("maHeThongRap", cinemaId)
-                .getAndDeserialize(ApiConstants.CINEMA_BRANCH_ENDPOINT, new TypeRef<>() {});
+                .getAndDeserialize(ApiConstants.CINEMA_BRANCH_ENDPOINT, new TypeReference<>() {});
     }
 
     public List<CinemaSystemSchedule> getShowtimesForCinemaSystem(String cinemaId) {
         return apiClient.withQueryParam("maHeThongRap", cinemaId)
-                .getAndDeserialize(ApiConstants.CINEMA_SHOWTIME_ENDPOINT, new TypeRef<>() {});
+                .getAndDeserialize(ApiConstants.CINEMA_SHOWTIME_ENDPOINT, new TypeReference<>() {});
     }
 
     /**
@@ -48,22 +49,42 @@ public class CinemaService {
                 .getAndDeserialize(ApiConstants.MOVIE_SHOWTIME_ENDPOINT, MovieSchedule.class);
     }
 
+    /**
+     * Get all showtime IDs of a movie.
+     * Streams the schedule payload and only reads the IDs - the full MovieSchedule is never built.
+     *
+     * @param movieId The movie ID
+     * @return Set of showtime IDs across all cinema systems and branches
+     */
+    public Set<String> getShowtimeIdsForMovie(String movieId) {
+        return ScheduleJsonExtractor.extractShowtimeIds(getMovieScheduleJson(movieId));
+    }
+
+    /**
+     * Get all showtime IDs of a cinema system.
+     * Streams the schedule payload and only reads the IDs - the CinemaSystemSchedule list is never built.
+     *
+     * @param cinemaId The cinema system ID
+     * @return Set of showtime IDs across all branches and movies of the cinema system
+     */
+    public Set<String> getShowtimeIdsForCinemaSystem(String cinemaId) {
+        byte[] json = apiClient.withQueryParam("maHeThongRap", cinemaId)
+                .get(ApiConstants.CINEMA_SHOWTIME_ENDPOINT)
+                .assertStatusCode(200)
+                .asBytes();
+        return ScheduleJsonExtractor.extractShowtimeIds(json);
+    }
+
     /**
      * Get showtimes for a specific movie at a specific cinema branch.
+     * Streams the schedule payload and only deserializes the requested branch's showtimes.
      *
      * @param movieId The movie ID
      * @param branchId The cinema branch ID
      * @return List of showtime details for the specified movie and branch
      */
     public List<MovieSchedule.ShowtimeDetails> getShowtimesForMovieAndBranch(String movieId, String branchId) {
-        MovieSchedule movieSchedule = getShowtimesForMovie(movieId);
-        String cleanBranchId = branchId.trim();
-
-        return movieSchedule.getHeThongRapChieu().stream()
-                .flatMap(cinemaSys -> cinemaSys.getCumRapChieu().stream())
-                .filter(branch -> branch.getMaCumRap().trim().equals(cleanBranchId))
-                .flatMap(branch -> branch.getLichChieuPhim().stream())
-                .toList();
+        return ScheduleJsonExtractor.extractBranchShowtimes(getMovieScheduleJson(movieId), branchId);
     }
 
     /**
@@ -82,4 +103,12 @@ public class CinemaService {
                 ));
     }
 
+    // ---- Private Helpers ----
+    private byte[] getMovieScheduleJson(String movieId) {
+        return apiClient
+                .withQueryParam("maPhim", movieId)
+                .get(ApiConstants.MOVIE_SHOWTIME_ENDPOINT)
+                .assertStatusCode(200)
+                .asBytes();
+    }
 }
@@ -0,0 +1,104 @@
+package api.services;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Thread-safe cache of API lookups, each key loaded once.
+ *
+ * <p>Each entry holds a future: the first thread asking for a missing / expired key fetches it outside any map lock,
+ * threads asking for the same key meanwhile wait for that fetch (no lock held, so virtual threads aren't pinned and
+ * other keys are never blocked). A failed fetch is not cached - its error goes to every waiting thread, and the next
+ * call fetches again.
+ *
+ * @param <T> Type of cached values
+ */
+class LoadingCache<T> {
+
+    private final Map<String, Entry<T>> entries = new ConcurrentHashMap<>();
+    // Entry lifetime, read on every access so config changes apply; null = never expires
+    private final Supplier<Duration> ttl;
+
+    LoadingCache() {
+        this(() -> null);
+    }
+
+    LoadingCache(Supplier<Duration> ttl) {
+        this.ttl = ttl;
+    }
+
+    /**
+     * Get the cached value of a key, loading it on the calling thread if missing or expired.
+     *
+     * @param key    Cache key
+     * @param loader Fetches the value of a key
+     * @return Cached or freshly loaded value
+     */
+    T get(String key, Function<String, T> loader) {
+        while (true) {
+            Entry<T> entry = entries.get(key);
+            if (entry != null && !entry.isExpired(ttl.get())) {
+                return await(entry.value());
+            }
+
+            Entry<T> loading = new Entry<>(new CompletableFuture<>(), System.nanoTime());
+            boolean claimed = entry == null
+                    ? entries.putIfAbsent(key, loading) == null
+                    : entries.replace(key, entry, loading);
+            if (!claimed) {
+                // Another thread started loading this key - wait for its entry
+                continue;
+            }
+
+            try {
+                T value = loader.apply(key);
+                loading.value().complete(value);
+                return value;
+            } catch (RuntimeException | Error e) {
+                entries.remove(key, loading);
+                loading.value().completeExceptionally(e);
+                throw e;
+            }
+        }
+    }
+
+    void invalidate(String key) {
+        entries.remove(key);
+    }
+
+    void clear() {
+        entries.clear();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    // ---- Private Helpers ----
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Entry<T>(CompletableFuture<T> value, long loadedAtNanos) {
+
+        // An entry still loading never expires, so a slow fetch isn't started twice
+        boolean isExpired(Duration ttl) {
+            return ttl != null && value.isDone() && System.nanoTime() - loadedAtNanos > ttl.toNanos();
+        }
+    }
+}
@@ -3,7 +3,7 @@ package api.services;
 import api.ApiClient;
 import api.ApiConfig;
 import api.ApiConstants;
-import io.restassured.common.mapper.TypeRef;
+import com.fasterxml.jackson.core.type.TypeReference;
 import model.api.response.Movie;
 import java.util.HashMap;
 import java.util.List;
@@ -19,7 +19,7 @@ public class MovieService {
 
     public List<Movie> getMovieList() {
         return this.apiClient.withQueryParam("maNhom", "GP09")
-                .getAndDeserialize(ApiConstants.MOVIE_LIST_ENDPOINT, new TypeRef<>() {
+                .getAndDeserialize(ApiConstants.MOVIE_LIST_ENDPOINT, new TypeReference<>() {
                 });
     }
 
@@ -0,0 +1,128 @@
+package api.services;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import model.api.response.MovieSchedule;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Streaming (Jackson JsonParser) extraction from schedule payloads.
+ * Pulls only the requested values out of the raw response body, skipping every other subtree,
+ * instead of materializing the full MovieSchedule / CinemaSystemSchedule object graph.
+ */
+class ScheduleJsonExtractor {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private static final String SHOWTIME_ID_FIELD = "maLichChieu";
+    private static final String BRANCH_ID_FIELD = "maCumRap";
+    private static final String BRANCH_SHOWTIMES_FIELD = "lichChieuPhim";
+
+    private ScheduleJsonExtractor() {
+        // utility class, no instantiation
+    }
+
+    /**
+     * Collect every showtime ID (maLichChieu) in the payload, at any nesting level.
+     * Works for both movie schedule and cinema system schedule responses.
+     *
+     * @param json Raw response body
+     * @return Showtime IDs in document order, without duplicates
+     */
+    static Set<String> extractShowtimeIds(byte[] json) {
+        Set<String> showtimeIds = new LinkedHashSet<>();
+        try (JsonParser parser = MAPPER.getFactory().createParser(json)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.FIELD_NAME && SHOWTIME_ID_FIELD.equals(parser.currentName())) {
+                    parser.nextToken();
+                    showtimeIds.add(parser.getValueAsString());
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to parse schedule payload", e);
+        }
+        return showtimeIds;
+    }
+
+    /**
+     * Get the showtimes (lichChieuPhim) of one cinema branch from a movie schedule payload.
+     * Only the matching branch's showtimes are deserialized; the other branches are skipped unparsed.
+     *
+     * @param json     Raw movie schedule response body
+     * @param branchId Cinema branch ID (maCumRap), compared trimmed
+     * @return Showtime details of the branch, empty if the branch has no showtimes for the movie
+     */
+    static List<MovieSchedule.ShowtimeDetails> extractBranchShowtimes(byte[] json, String branchId) {
+        List<MovieSchedule.ShowtimeDetails> showtimes = new ArrayList<>();
+        try (JsonParser parser = MAPPER.getFactory().createParser(json)) {
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                collectBranchShowtimes(parser, branchId.trim(), showtimes);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to parse movie schedule payload", e);
+        }
+        return showtimes;
+    }
+
+    // ---- Private Helpers ----
+
+    /**
+     * Walk the object the parser is positioned on. A branch object is recognized by its maCumRap field;
+     * its lichChieuPhim array is read only when the ID matches. Nested objects/arrays are walked recursively,
+     * so the same code handles heThongRapChieu → cumRapChieu without depending on the exact nesting.
+     */
+    private static void collectBranchShowtimes(JsonParser parser, String branchId,
+                                               List<MovieSchedule.ShowtimeDetails> showtimes) throws IOException {
+        // Field order inside a branch object is not guaranteed, so showtimes seen before maCumRap are buffered
+        String currentBranchId = null;
+        List<MovieSchedule.ShowtimeDetails> pendingShowtimes = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+
+            if (BRANCH_ID_FIELD.equals(field) && value == JsonToken.VALUE_STRING) {
+                currentBranchId = parser.getText().trim();
+                if (pendingShowtimes != null && currentBranchId.equals(branchId)) {
+                    showtimes.addAll(pendingShowtimes);
+                }
+                pendingShowtimes = null;
+            } else if (BRANCH_SHOWTIMES_FIELD.equals(field) && value == JsonToken.START_ARRAY) {
+                if (currentBranchId == null) {
+                    pendingShowtimes = readShowtimes(parser);
+                } else if (currentBranchId.equals(branchId)) {
+                    showtimes.addAll(readShowtimes(parser));
+                } else {
+                    parser.skipChildren();
+                }
+            } else if (value == JsonToken.START_OBJECT) {
+                collectBranchShowtimes(parser, branchId, showtimes);
+            } else if (value == JsonToken.START_ARRAY) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    if (parser.currentToken() == JsonToken.START_OBJECT) {
+                        collectBranchShowtimes(parser, branchId, showtimes);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            }
+        }
+    }
+
+    private static List<MovieSchedule.ShowtimeDetails> readShowtimes(JsonParser parser) throws IOException {
+        List<MovieSchedule.ShowtimeDetails> showtimes = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            showtimes.add(MAPPER.readValue(parser, MovieSchedule.ShowtimeDetails.class));
+        }
+        return showtimes;
+    }
+}
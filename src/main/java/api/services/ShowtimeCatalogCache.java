@@ -0,0 +1,101 @@
+package api.services;
+
+import config.ConfigManager;
+import model.api.response.Movie;
+import model.api.response.ShowtimeBooking;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import utils.ConcurrentFetcher;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Suite-scoped, thread-safe cache of the movie → schedule → seat map catalog.
+ * Loaded once in @BeforeSuite and shared by all test threads, so test data discovery
+ * costs O(movies) API calls per run instead of O(tests × movies).
+ *
+ * <p>Entries expire after a TTL and are reloaded on next access:
+ * <ul>
+ *   <li>Movie list and showtime IDs per movie - catalog.ttl (rarely change during a run)</li>
+ *   <li>Showtime seat data - catalog.seats.ttl (seats are booked by tests during the run)</li>
+ * </ul>
+ * Entries are loaded outside any lock, each key once (see LoadingCache). A failed fetch is not cached.
+ */
+public class ShowtimeCatalogCache {
+
+    private static final Logger LOG = LogManager.getLogger(ShowtimeCatalogCache.class);
+
+    private static final String MOVIES_KEY = "movies";
+    private static final LoadingCache<List<Movie>> movieList = new LoadingCache<>(ShowtimeCatalogCache::getCatalogTtl);
+    private static final LoadingCache<Set<String>> showtimeIdsByMovieId = new LoadingCache<>(ShowtimeCatalogCache::getCatalogTtl);
+    private static final LoadingCache<ShowtimeBooking> bookingsByShowtimeId = new LoadingCache<>(ShowtimeCatalogCache::getSeatDataTtl);
+
+    /**
+     * Load movie list and all movie schedules into the cache.
+     * Schedules are fetched concurrently, bounded by the configured api.concurrency.
+     */
+    public static void load() {
+        invalidateAll();
+        int showtimeCount = getAllShowtimeIds().size();
+        LOG.info("Showtime catalog loaded: " + showtimeIdsByMovieId.size() + " movies, " + showtimeCount + " showtimes");
+    }
+
+    public static List<Movie> getMovies() {
+        return movieList.get(MOVIES_KEY, key -> List.copyOf(new MovieService().getMovieList()));
+    }
+
+    /**
+     * Get the showtime IDs of a movie. Only the IDs are kept - the schedule payload is streamed, not cached.
+     */
+    public static Set<String> getShowtimeIds(String movieId) {
+        return showtimeIdsByMovieId.get(movieId, id -> Set.copyOf(new CinemaService().getShowtimeIdsForMovie(id)));
+    }
+
+    public static ShowtimeBooking getShowtimeBooking(String showtimeId) {
+        return bookingsByShowtimeId.get(showtimeId, id -> new BookingService().getShowtimeBookingData(id));
+    }
+
+    /**
+     * Get all showtime IDs across all movies.
+     * Expired or missing movie schedules are (re)fetched concurrently.
+     *
+     * @return List of all showtime IDs
+     */
+    public static List<String> getAllShowtimeIds() {
+        List<Set<String>> showtimeIdsPerMovie = ConcurrentFetcher.fetchAll(
+                getMovies(),
+                movie -> getShowtimeIds(movie.getMaPhim()),
+                ConfigManager.getApiConcurrency()
+        );
+
+        Set<String> allShowtimeIds = new HashSet<>();
+        showtimeIdsPerMovie.forEach(allShowtimeIds::addAll);
+        return new ArrayList<>(allShowtimeIds);
+    }
+
+    /**
+     * Drop cached seat data for a showtime, e.g. after seats were booked by a test.
+     */
+    public static void invalidateShowtime(String showtimeId) {
+        bookingsByShowtimeId.invalidate(showtimeId);
+    }
+
+    public static void invalidateAll() {
+        movieList.clear();
+        showtimeIdsByMovieId.clear();
+        bookingsByShowtimeId.clear();
+    }
+
+    // ---- Private Helpers ----
+    private static Duration getCatalogTtl() {
+        return Duration.ofSeconds(ConfigManager.getCatalogTtl());
+    }
+
+    private static Duration getSeatDataTtl() {
+        return Duration.ofSeconds(ConfigManager.getSeatDataTtl());
+    }
+}
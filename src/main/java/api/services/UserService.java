@@ -3,8 +3,8 @@ package api.services;
 import api.ApiClient;
 import api.ApiConfig;
 import api.ApiConstants;
-import io.restassured.common.mapper.TypeRef;
-import io.restassured.response.Response;
+import api.ApiResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
 import model.api.request.RegisterRequestPayload;
 import model.UserAccount;
 import org.apache.logging.log4j.LogManager;
@@ -38,7 +38,7 @@ public class UserService {
         List<UserAccount> users = this.apiClient
                 .withQueryParam("MaNhom", "GP09")
                 .withQueryParam("tuKhoa", username)
-                .getAndDeserialize(ApiConstants.USER_SEARCH_ENDPOINT, new TypeRef<>() {});
+                .getAndDeserialize(ApiConstants.USER_SEARCH_ENDPOINT, new TypeReference<>() {});
 
         if (users.size() > 1) {
             throw new RuntimeException("Found more than one user with username: " + username);
@@ -56,11 +56,10 @@ public class UserService {
         this.apiClient
                 .withBody(request)
                 .post(ApiConstants.USER_REGISTER_ENDPOINT)
-                .then()
-                .statusCode(200);
+                .assertStatusCode(200);
     }
 
-    public Response sendDeleteUserRequest(String username) {
+    public ApiResponse sendDeleteUserRequest(String username) {
 
         String adminToken = AuthService.getAdminToken();
 
@@ -1,6 +1,7 @@
 package base;
 
 import config.ConfigManager;
+import drivers.NetworkActivityTracker;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.*;
@@ -8,10 +9,16 @@ import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
+import org.openqa.selenium.support.ui.Sleeper;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import reports.TestTimings;
 
+import java.time.Clock;
 import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Base class for all Page Objects.
@@ -22,64 +29,63 @@ public class BasePage {
     protected final Logger LOG = LogManager.getLogger(getClass());
     protected WebDriver driver;
     protected WebDriverWait wait;
+    private final WebDriverWait shortWait;
+    private final WebDriverWait longWait;
 
     public BasePage(WebDriver driver) {
         this.driver = driver;
-        // Use configurable timeout from config.properties (default: 10 seconds)
-        int explicitWait = ConfigManager.getExplicitWait();
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(explicitWait));
+        // Use configurable timeouts from config.properties (default: 10 / 3 / 20 seconds)
+        // Built once per page instead of on every wait call
+        this.wait = createWait(ConfigManager.getExplicitWait());
+        this.shortWait = createWait(ConfigManager.getShortWait());
+        this.longWait = createWait(ConfigManager.getLongWait());
         PageFactory.initElements(driver, this);
     }
 
     // ---- Wait Helpers --- //
     // Wait for element to meet condition - presence, visibility, clickability, etc.
     public WebElement waitForVisibilityOfElementLocated(WebElement element) {
-        return wait.until(ExpectedConditions.visibilityOf(element));
+        return timed(() -> wait.until(ExpectedConditions.visibilityOf(element)));
     }
 
     public WebElement waitForVisibilityOfElementLocatedBy(By locator) {
-        return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+        return timed(() -> wait.until(ExpectedConditions.visibilityOfElementLocated(locator)));
     }
 
     public List<WebElement> waitForVisibilityOfAllElementsLocated(List<WebElement> elements) {
-        WebDriverWait longWait = new WebDriverWait(driver, Duration.ofSeconds(ConfigManager.getLongWait()));
-        return longWait.until(ExpectedConditions.visibilityOfAllElements(elements));
+        return timed(() -> longWait.until(ExpectedConditions.visibilityOfAllElements(elements)));
     }
 
     public List<WebElement> waitForVisibilityOfAllElementsLocatedBy(By locator) {
-        WebDriverWait longWait = new WebDriverWait(driver, Duration.ofSeconds(ConfigManager.getLongWait()));
-        return longWait.until(ExpectedConditions.visibilityOfAllElementsLocatedBy(locator));
+        return timed(() -> longWait.until(ExpectedConditions.visibilityOfAllElementsLocatedBy(locator)));
     }
 
     public WebElement waitForElementToBeClickable(WebElement element) {
-        return wait.until(ExpectedConditions.elementToBeClickable(element));
+        return timed(() -> wait.until(ExpectedConditions.elementToBeClickable(element)));
     }
 
     public WebElement waitForVisibilityOfNestedElementLocatedBy(WebElement parentElement, By childLocator) {
-        return wait.until(ExpectedConditions.visibilityOfNestedElementsLocatedBy(parentElement, childLocator)).get(0);
+        return timed(() -> wait.until(ExpectedConditions.visibilityOfNestedElementsLocatedBy(parentElement, childLocator)).get(0));
     }
 
     public List<WebElement> waitForVisibilityOfNestedElementsLocatedBy(WebElement parentElement, By childLocator) {
-        return wait.until(ExpectedConditions.visibilityOfNestedElementsLocatedBy(parentElement, childLocator));
+        return timed(() -> wait.until(ExpectedConditions.visibilityOfNestedElementsLocatedBy(parentElement, childLocator)));
     }
 
     public List<WebElement> waitForAllNestedElementsToBePresent(By parentElement, By childLocator) {
-        WebDriverWait longWait = new WebDriverWait(driver, Duration.ofSeconds(ConfigManager.getLongWait()));
-        return longWait.until(ExpectedConditions.presenceOfNestedElementsLocatedBy(parentElement, childLocator));
+        return timed(() -> longWait.until(ExpectedConditions.presenceOfNestedElementsLocatedBy(parentElement, childLocator)));
     }
 
     public void waitForNestedElementToBePresent(WebElement parentElement, By childLocator) {
-        wait.until(ExpectedConditions.presenceOfNestedElementLocatedBy(parentElement, childLocator));
+        timed(() -> wait.until(ExpectedConditions.presenceOfNestedElementLocatedBy(parentElement, childLocator)));
     }
 
     public void waitForInvisibilityOfElementLocated(WebElement element) {
-        WebDriverWait shortWait = new WebDriverWait(driver, Duration.ofSeconds(ConfigManager.getShortWait()));
-        shortWait.until(ExpectedConditions.invisibilityOf(element));
+        timed(() -> shortWait.until(ExpectedConditions.invisibilityOf(element)));
     }
 
     public void waitForInvisibilityOfElementLocatedBy(By locator) {
-        WebDriverWait shortWait = new WebDriverWait(driver, Duration.ofSeconds(ConfigManager.getShortWait()));
-        shortWait.until(ExpectedConditions.invisibilityOfElementLocated(locator));
+        timed(() -> shortWait.until(ExpectedConditions.invisibilityOfElementLocated(locator)));
     }
 
     // Wait for URL / partial URL
@@ -89,14 +95,14 @@ public class BasePage {
 
         try {
             // Wait for URL to match (with normalization)
-            Boolean result = wait.until(driver -> {
+            Boolean result = timed(() -> wait.until(driver -> {
                 String currentUrl = driver.getCurrentUrl();
                 if (currentUrl == null) {
                     return false;
                 }
                 String normalizedCurrent = currentUrl.endsWith("/") ? currentUrl.substring(0, currentUrl.length() - 1) : currentUrl;
                 return normalizedCurrent.equals(normalizedExpected);
-            });
+            }));
             return result != null && result;
         } catch (Exception e) {
             LOG.warn("Wait for URL: " + expectedUrl + " - FAILED. Current URL: " + driver.getCurrentUrl());
@@ -106,7 +112,7 @@ public class BasePage {
 
     public boolean waitForUrlContains(String urlFragment) {
         try {
-            Boolean result = wait.until(ExpectedConditions.urlContains(urlFragment));
+            Boolean result = timed(() -> wait.until(ExpectedConditions.urlContains(urlFragment)));
             return result != null && result;
         } catch (Exception e) {
             LOG.warn("Wait for URL containing: " + urlFragment + " - FAILED. Current URL: " + driver.getCurrentUrl());
@@ -114,6 +120,32 @@ public class BasePage {
         }
     }
 
+    /**
+     * Wait until the page's XHR / fetch calls are done and no new call started for quietMillis
+     * (see NetworkActivityTracker). Bounded by long.wait.
+     * Returns false right away on browsers without network events (Firefox, Safari) -
+     * keep an element wait after it so page objects work on every browser.
+     *
+     * @param quietMillis How long the network must stay idle, in milliseconds
+     * @return true if the network went idle, false on timeout or if not supported
+     */
+    public boolean waitForNetworkIdle(long quietMillis) {
+        NetworkActivityTracker tracker = NetworkActivityTracker.attach(driver);
+        return timed(() -> {
+            try {
+                return tracker.waitForIdle(Duration.ofMillis(quietMillis), Duration.ofSeconds(ConfigManager.getLongWait()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        });
+    }
+
+    // Wait for network idle with the quiet period from config.properties (network.idle.quietMillis)
+    public boolean waitForNetworkIdle() {
+        return waitForNetworkIdle(ConfigManager.getNetworkIdleQuietMillis());
+    }
+
     // ---- Common Actions ---- //
     // Refresh the current page
     public void refreshPage() {
@@ -174,6 +206,12 @@ public class BasePage {
         select.selectByVisibleText(visibleText);
     }
 
+    // Write an item into the browser's localStorage for the current origin
+    public void setLocalStorageItem(String key, String value) {
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        js.executeScript("window.localStorage.setItem(arguments[0], arguments[1]);", key, value);
+    }
+
     // ---- Getters ---- //
     // Get text and attribute values - with trimming
     public String getText(WebElement element) {
@@ -186,6 +224,39 @@ public class BasePage {
         return field.getAttribute("value").trim();
     }
 
+    /**
+     * Snapshot key/text pairs of all children of a list-like element in a single executeScript call,
+     * instead of one getText + getAttribute round-trip per child.
+     * Key is the child's property (e.g. value) or, if no such property, attribute; text is trimmed innerText.
+     *
+     * @param parent           List-like container (select, ul, table body...)
+     * @param childCssSelector CSS selector of the children, relative to parent
+     * @param keyAttribute     Property / attribute used as map key
+     * @return Map of key to text, in DOM order
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, String> getChildKeyToTextSnapshot(WebElement parent, String childCssSelector, String keyAttribute) {
+        String script =
+                "var attr = arguments[2];" +
+                "return Array.from(arguments[0].querySelectorAll(arguments[1])).map(function (el) {" +
+                "  var key = (attr in el) ? el[attr] : el.getAttribute(attr);" +
+                "  return [String(key == null ? '' : key).trim(), (el.innerText || el.textContent || '').trim()];" +
+                "});";
+        List<List<Object>> pairs = (List<List<Object>>) ((JavascriptExecutor) driver)
+                .executeScript(script, parent, childCssSelector, keyAttribute);
+
+        Map<String, String> snapshot = new LinkedHashMap<>();
+        for (List<Object> pair : pairs) {
+            snapshot.put(String.valueOf(pair.get(0)), String.valueOf(pair.get(1)));
+        }
+        return snapshot;
+    }
+
+    // Snapshot value to text of all enabled options of a <select> (one executeScript call)
+    public Map<String, String> getSelectOptionSnapshot(WebElement select) {
+        return getChildKeyToTextSnapshot(select, "option:not([disabled])", "value");
+    }
+
     // ---- Utility Methods ---- //
     // Check if element is displayed (returns false instead of throwing exception), default timeout specified in wait
     public boolean isElementDisplayed(WebElement element) {
@@ -218,8 +289,8 @@ public class BasePage {
     // Check if element is displayed with custom timeout
     public boolean isElementDisplayedCustom(WebElement element, int timeoutSeconds) {
         try {
-            WebDriverWait customWait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-            customWait.until(ExpectedConditions.visibilityOf(element));
+            WebDriverWait customWait = createWait(timeoutSeconds);
+            timed(() -> customWait.until(ExpectedConditions.visibilityOf(element)));
             return true;
         } catch (Exception e) {
             return false;
@@ -253,4 +324,20 @@ public class BasePage {
         return ConfigManager.getBaseUrl() + path;
     }
 
+    /**
+     * Create a wait with the configured polling interval. With wait.eventDriven (default) the wait re-checks
+     * its condition as soon as the DOM changes instead of sleeping the full interval (see DomMutationSleeper).
+     */
+    private WebDriverWait createWait(int timeoutSeconds) {
+        Duration timeout = Duration.ofSeconds(timeoutSeconds);
+        Duration pollInterval = Duration.ofMillis(ConfigManager.getWaitPollInterval());
+        Sleeper sleeper = ConfigManager.isEventDrivenWaitEnabled() ? new DomMutationSleeper(driver) : Sleeper.SYSTEM_SLEEPER;
+        return new WebDriverWait(driver, timeout, pollInterval, Clock.systemDefaultZone(), sleeper);
+    }
+
+    // Time a wait for the per-test timing breakdown ("wait" phase, see TestTimings)
+    private <T> T timed(Supplier<T> waitCall) {
+        return TestTimings.time("wait", waitCall);
+    }
+
 }
@@ -0,0 +1,63 @@
+package base;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.Sleeper;
+
+import java.time.Duration;
+
+/**
+ * Event-driven Sleeper for WebDriverWait.
+ *
+ * <p>Instead of sleeping the full polling interval between condition checks, it installs a MutationObserver
+ * in the page (through executeAsyncScript) and returns as soon as the DOM changes - after the next animation frame,
+ * so a burst of mutations from one render causes a single re-check. The polling interval is only an upper bound,
+ * which covers changes that don't mutate the DOM (e.g. CSS transitions). Re-checks are at least 50 ms apart,
+ * so a constantly mutating page (spinners, carousels, tickers) doesn't turn the wait into a busy loop.
+ *
+ * <p>Conditions are still evaluated by WebDriverWait in Java, so every ExpectedCondition works unchanged.
+ */
+class DomMutationSleeper implements Sleeper {
+
+    // Longest fallback sleep when the script can't run (alert open, page navigating...)
+    private static final long FALLBACK_SLEEP_MILLIS = 100;
+    // Shortest time between two condition checks, even if the DOM changes sooner
+    private static final long MIN_RECHECK_MILLIS = 50;
+
+    private static final String WAIT_FOR_MUTATION_SCRIPT =
+            "var timeoutMs = arguments[0];" +
+            "var earliest = Date.now() + arguments[1];" +
+            "var done = arguments[arguments.length - 1];" +
+            "var finished = false;" +
+            "var observer = new MutationObserver(function () {" +
+            "  observer.disconnect();" +
+            "  setTimeout(function () { window.requestAnimationFrame(finish); }, Math.max(0, earliest - Date.now()));" +
+            "});" +
+            "var timer = setTimeout(finish, timeoutMs);" +
+            "function finish() {" +
+            "  if (finished) { return; }" +
+            "  finished = true;" +
+            "  observer.disconnect();" +
+            "  clearTimeout(timer);" +
+            "  done(true);" +
+            "}" +
+            "observer.observe(document, { subtree: true, childList: true, attributes: true, characterData: true });";
+
+    private final WebDriver driver;
+
+    DomMutationSleeper(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    @Override
+    public void sleep(Duration duration) throws InterruptedException {
+        try {
+            long timeoutMillis = duration.toMillis();
+            ((JavascriptExecutor) driver).executeAsyncScript(WAIT_FOR_MUTATION_SCRIPT,
+                    timeoutMillis, Math.min(MIN_RECHECK_MILLIS, timeoutMillis));
+        } catch (RuntimeException e) {
+            // Page unloading or alert open - fall back to a short plain sleep
+            Thread.sleep(Math.min(duration.toMillis(), FALLBACK_SLEEP_MILLIS));
+        }
+    }
+}
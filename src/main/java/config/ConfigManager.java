@@ -9,7 +9,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
 
 import static config.urlConstants.BASE_URL_PATTERN;
 
@@ -33,6 +38,32 @@ public class ConfigManager {
     private static final int DEFAULT_SHORT_WAIT = 2;
     private static final int DEFAULT_LONG_WAIT = 20;
 
+    private static final int DEFAULT_API_CONCURRENCY = 8;
+    private static final int DEFAULT_CATALOG_TTL = 1800;
+    private static final int DEFAULT_SEAT_DATA_TTL = 60;
+    private static final int DEFAULT_DRIVER_POOL_MAX_USES = 20;
+    private static final int DEFAULT_USER_POOL_SIZE = 3;
+    private static final int DEFAULT_SCREENSHOT_WRITER_THREADS = 2;
+    private static final int DEFAULT_SCREENSHOT_QUEUE_SIZE = 16;
+    private static final String DEFAULT_SCREENSHOT_FORMAT = "jpg";
+    private static final int DEFAULT_SCREENSHOT_QUALITY = 80;
+    private static final int DEFAULT_SCREENSHOT_MAX_WIDTH = 1280;
+    private static final int DEFAULT_SCREENSHOTS_PER_TEST = 10;
+    private static final int DEFAULT_COMMAND_BUDGET = 0;
+    private static final int DEFAULT_WAIT_POLL_INTERVAL_MILLIS = 500;
+    private static final int DEFAULT_NETWORK_IDLE_QUIET_MILLIS = 300;
+    private static final String DEFAULT_OUTPUT_DIR = "test-output";
+    private static final String DEFAULT_SCHEDULE_HISTORY_FILE = "test-output/history/class-durations.json";
+    private static final int DEFAULT_METHOD_SECONDS = 20;
+    private static final int DEFAULT_COORDINATOR_WORKERS = 3;
+    private static final int DEFAULT_COORDINATOR_MAX_ATTEMPTS = 2;
+    private static final int DEFAULT_COORDINATOR_WORKER_TIMEOUT_MINUTES = 60;
+    // Run selection properties passed with -D that are not config.properties keys
+    private static final Set<String> RUN_PROPERTIES = Set.of("env", "runOn", "platform", "browser", "headless");
+    private static final String DEFAULT_API_STUB_DIR = "src/test/resources/api-recordings";
+    private static final String DEFAULT_BLOCKED_URLS =
+            "*.jpg,*.jpeg,*.png,*.gif,*.webp,*.woff,*.woff2,*.ttf,*.mp4,*youtube.com/*,*googletagmanager.com/*,*google-analytics.com/*";
+
     // Resolve environment ONCE
     private static final String ENV = resolveEnv();
 
@@ -152,6 +183,357 @@ public class ConfigManager {
         return getIntProperty("long.wait", DEFAULT_LONG_WAIT);
     }
 
+    /**
+     * Get the maximum number of concurrent API calls used for test data discovery.
+     * Used when fanning out lookups across movies / showtimes (e.g. BookingSampleProvider).
+     *
+     * @return Maximum calls in flight (default: 8)
+     */
+    public static int getApiConcurrency() {
+        return getIntProperty("api.concurrency", DEFAULT_API_CONCURRENCY);
+    }
+
+    /**
+     * Get how long cached movie list and movie schedules stay valid, in seconds.
+     * Used by ShowtimeCatalogCache; schedules rarely change during a run.
+     *
+     * @return TTL in seconds (default: 1800)
+     */
+    public static int getCatalogTtl() {
+        return getIntProperty("catalog.ttl", DEFAULT_CATALOG_TTL);
+    }
+
+    /**
+     * Get how long cached showtime seat data stays valid, in seconds.
+     * Kept short because seats are booked by tests during the run.
+     *
+     * @return TTL in seconds (default: 60)
+     */
+    public static int getSeatDataTtl() {
+        return getIntProperty("catalog.seats.ttl", DEFAULT_SEAT_DATA_TTL);
+    }
+
+    /**
+     * Check whether the showtime catalog should be loaded up front in @BeforeSuite.
+     *
+     * @return true unless catalog.preload is set to false
+     */
+    public static boolean isCatalogPreloadEnabled() {
+        return getBooleanProperty("catalog.preload", true);
+    }
+
+    /**
+     * Check whether WebDriver sessions are pooled and reused across test methods (see DriverPool).
+     *
+     * @return true unless driver.pool.enabled is set to false
+     */
+    public static boolean isDriverPoolEnabled() {
+        return getBooleanProperty("driver.pool.enabled", true);
+    }
+
+    /**
+     * Get the number of tests a pooled WebDriver session serves before it is quit and replaced.
+     *
+     * @return Max uses per session (default: 20)
+     */
+    public static int getDriverPoolMaxUses() {
+        return getIntProperty("driver.pool.maxUses", DEFAULT_DRIVER_POOL_MAX_USES);
+    }
+
+    /**
+     * Get the number of test users kept pre-registered in the test user pool.
+     * Set to 0 to register users on demand only.
+     *
+     * @return Pool size (default: 3)
+     */
+    public static int getUserPoolSize() {
+        return getIntProperty("user.pool.size", DEFAULT_USER_POOL_SIZE);
+    }
+
+    /**
+     * Check whether non-auth tests log in by injecting an API session into the browser
+     * instead of going through the login form (see AuthActionHelper.loginViaApi).
+     *
+     * @return true unless auth.sessionInjection is set to false
+     */
+    public static boolean isSessionInjectionEnabled() {
+        return getBooleanProperty("auth.sessionInjection", true);
+    }
+
+    /**
+     * Get the number of background threads writing screenshots to disk (see ScreenshotWriter).
+     *
+     * @return Writer thread count (default: 2)
+     */
+    public static int getScreenshotWriterThreads() {
+        return getIntProperty("screenshot.writer.threads", DEFAULT_SCREENSHOT_WRITER_THREADS);
+    }
+
+    /**
+     * Get the number of screenshots that may wait for the background writer.
+     * When the queue is full, the test thread writes the screenshot itself (back-pressure).
+     *
+     * @return Queue capacity (default: 16)
+     */
+    public static int getScreenshotQueueSize() {
+        return getIntProperty("screenshot.writer.queueSize", DEFAULT_SCREENSHOT_QUEUE_SIZE);
+    }
+
+    /**
+     * Get the image format screenshots are re-encoded to before being stored (e.g. jpg, png).
+     *
+     * @return Image format name (default: jpg)
+     */
+    public static String getScreenshotFormat() {
+        String format = getProperty("screenshot.format");
+        return isEmpty(format) ? DEFAULT_SCREENSHOT_FORMAT : format.trim().toLowerCase();
+    }
+
+    /**
+     * Get the compression quality for stored screenshots, in percent (only used by lossy formats like jpg).
+     *
+     * @return Quality 1-100 (default: 80)
+     */
+    public static int getScreenshotQuality() {
+        return getIntProperty("screenshot.quality", DEFAULT_SCREENSHOT_QUALITY);
+    }
+
+    /**
+     * Get the maximum width of stored screenshots; wider screenshots are downscaled keeping aspect ratio.
+     * Set to 0 to keep the original size.
+     *
+     * @return Max width in pixels (default: 1280)
+     */
+    public static int getScreenshotMaxWidth() {
+        return getIntProperty("screenshot.maxWidth", DEFAULT_SCREENSHOT_MAX_WIDTH);
+    }
+
+    /**
+     * Get the maximum number of distinct screenshots stored per test.
+     * Past the cap, failures still link screenshots already stored; new page states are logged without an image.
+     *
+     * @return Max screenshots per test (default: 10)
+     */
+    public static int getMaxScreenshotsPerTest() {
+        return getIntProperty("screenshot.maxPerTest", DEFAULT_SCREENSHOTS_PER_TEST);
+    }
+
+    /**
+     * Check whether WebDriver commands are traced (counted and timed per test and per page object method).
+     *
+     * @return true if driver.trace.enabled is set to true (default: false)
+     */
+    public static boolean isCommandTraceEnabled() {
+        return getBooleanProperty("driver.trace.enabled", false);
+    }
+
+    /**
+     * Get the maximum number of WebDriver commands a test may send when tracing is enabled.
+     * A passing test exceeding the budget is marked as failed. Set to 0 for no budget.
+     *
+     * @return Command budget per test (default: 0 = unlimited)
+     */
+    public static int getCommandBudget() {
+        return getIntProperty("driver.trace.budget", DEFAULT_COMMAND_BUDGET);
+    }
+
+    /**
+     * Check whether BasePage waits re-check their condition as soon as the page DOM changes
+     * (MutationObserver) instead of sleeping a fixed polling interval between checks.
+     *
+     * @return true unless wait.eventDriven is set to false
+     */
+    public static boolean isEventDrivenWaitEnabled() {
+        return getBooleanProperty("wait.eventDriven", true);
+    }
+
+    /**
+     * Get the polling interval of BasePage waits, in milliseconds.
+     * With event-driven waits this is only the upper bound between two condition checks.
+     *
+     * @return Polling interval in milliseconds (default: 500)
+     */
+    public static int getWaitPollInterval() {
+        return getIntProperty("wait.pollInterval", DEFAULT_WAIT_POLL_INTERVAL_MILLIS);
+    }
+
+    /**
+     * Get how long the network must stay idle (no XHR / fetch in flight) for BasePage.waitForNetworkIdle().
+     *
+     * @return Quiet period in milliseconds (default: 300)
+     */
+    public static int getNetworkIdleQuietMillis() {
+        return getIntProperty("network.idle.quietMillis", DEFAULT_NETWORK_IDLE_QUIET_MILLIS);
+    }
+
+    /**
+     * Check whether resources matching resource.block.deny are blocked in Chrome / Edge sessions.
+     *
+     * @return true unless resource.block.enabled is set to false
+     */
+    public static boolean isResourceBlockingEnabled() {
+        return getBooleanProperty("resource.block.enabled", true);
+    }
+
+    /**
+     * Get URL patterns (* and ? wildcards) of resources to block, e.g. images, fonts, trailers, analytics.
+     *
+     * @return Deny list (default: images, fonts, videos, YouTube and Google analytics scripts)
+     */
+    public static List<String> getBlockedUrlPatterns() {
+        return getListProperty("resource.block.deny", DEFAULT_BLOCKED_URLS);
+    }
+
+    /**
+     * Get URL patterns that are never blocked, even if they match the deny list.
+     *
+     * @return Allow list (default: empty)
+     */
+    public static List<String> getAllowedUrlPatterns() {
+        return getListProperty("resource.block.allow", "");
+    }
+
+    /**
+     * Check whether the bytes saved by resource blocking are estimated at suite end
+     * (one HEAD request per distinct blocked URL, reading its Content-Length).
+     *
+     * @return true if resource.block.measureSavings is set to true (default: false)
+     */
+    public static boolean isResourceBlockingMeasured() {
+        return getBooleanProperty("resource.block.measureSavings", false);
+    }
+
+    /**
+     * Check whether JSON responses the browser receives from whitelisted API endpoints are captured
+     * (BrowserResponseCapture), so tests can verify against them instead of calling the API again.
+     *
+     * @return true unless browser.capture.enabled is set to false
+     */
+    public static boolean isBrowserResponseCaptureEnabled() {
+        return getBooleanProperty("browser.capture.enabled", true);
+    }
+
+    /**
+     * Get the API stub mode: record (proxy the live API and save responses), replay (serve saved responses)
+     * or off (call the live API directly).
+     *
+     * @return Stub mode in lower case (default: off)
+     */
+    public static String getApiStubMode() {
+        String mode = getProperty("api.stub.mode");
+        return isEmpty(mode) ? "off" : mode.trim().toLowerCase();
+    }
+
+    /**
+     * Get the directory of API stub recordings.
+     *
+     * @return Recording directory (default: src/test/resources/api-recordings)
+     */
+    public static String getApiStubDir() {
+        String dir = getProperty("api.stub.dir");
+        return isEmpty(dir) ? DEFAULT_API_STUB_DIR : dir.trim();
+    }
+
+    /**
+     * Get the latency injected into every replayed API response, in milliseconds.
+     *
+     * @return Latency in milliseconds (default: 0)
+     */
+    public static int getApiStubLatencyMillis() {
+        return getIntProperty("api.stub.latencyMillis", 0);
+    }
+
+    /**
+     * Get the file storing historical test class durations, used to schedule long classes first.
+     *
+     * @return History file path (default: test-output/history/class-durations.json)
+     */
+    public static String getScheduleHistoryFile() {
+        String file = getProperty("schedule.history.file");
+        return isEmpty(file) ? DEFAULT_SCHEDULE_HISTORY_FILE : file.trim();
+    }
+
+    /**
+     * Get the class duration snapshot used to partition sharded runs (-Dshard.history=&lt;file&gt;).
+     * Every shard must be given the same file; without one, classes are partitioned by static estimates,
+     * so all shards get the same partitions whatever their local history.
+     *
+     * @return Snapshot file path, or null to use static estimates (default: none)
+     */
+    public static String getShardHistoryFile() {
+        String file = getProperty("shard.history");
+        return isEmpty(file) ? null : file.trim();
+    }
+
+    /**
+     * Get the estimated duration of one test method, for test classes without duration history.
+     *
+     * @return Estimated seconds per test method (default: 20)
+     */
+    public static int getDefaultMethodSeconds() {
+        return getIntProperty("schedule.defaultMethodSeconds", DEFAULT_METHOD_SECONDS);
+    }
+
+    /**
+     * Get the number of worker JVMs the test coordinator starts when no count is given on the command line.
+     *
+     * @return Worker count (default: 3)
+     */
+    public static int getCoordinatorWorkers() {
+        return getIntProperty("coordinator.workers", DEFAULT_COORDINATOR_WORKERS);
+    }
+
+    /**
+     * Get how many times the test coordinator hands out a test class whose worker died while running it.
+     *
+     * @return Max attempts per test class (default: 2)
+     */
+    public static int getCoordinatorMaxAttempts() {
+        return getIntProperty("coordinator.maxAttempts", DEFAULT_COORDINATOR_MAX_ATTEMPTS);
+    }
+
+    /**
+     * Get how long the test coordinator waits for its worker JVMs before killing them.
+     *
+     * @return Worker timeout in minutes, counted from the start of the run (default: 60)
+     */
+    public static int getCoordinatorWorkerTimeoutMinutes() {
+        return getIntProperty("coordinator.workerTimeoutMinutes", DEFAULT_COORDINATOR_WORKER_TIMEOUT_MINUTES);
+    }
+
+    /**
+     * Get the folder for reports, screenshots, timings and journals of this run.
+     * Sharded runs (-Dshard=2/4) and coordinator workers (-Dworker.id=N) write to their own subfolder,
+     * which is the run's result bundle.
+     *
+     * @return Output folder (default: test-output, test-output/shard-INDEX-of-TOTAL or test-output/worker-N)
+     */
+    public static String getOutputDir() {
+        String workerId = getProperty("worker.id");
+        if (!isEmpty(workerId)) {
+            return DEFAULT_OUTPUT_DIR + "/worker-" + workerId.trim();
+        }
+        return Shard.current()
+                .map(shard -> DEFAULT_OUTPUT_DIR + "/" + shard.getName())
+                .orElse(DEFAULT_OUTPUT_DIR);
+    }
+
+    /**
+     * Get the JVM system properties overriding configuration (config.properties keys and run selection
+     * such as env / browser / headless), to pass on to child JVMs.
+     *
+     * @return Key -> value of every override set with -D in this JVM
+     */
+    public static Map<String, String> getSystemPropertyOverrides() {
+        Map<String, String> overrides = new TreeMap<>();
+        for (String key : System.getProperties().stringPropertyNames()) {
+            if (properties.containsKey(key) || RUN_PROPERTIES.contains(key)) {
+                overrides.put(key, System.getProperty(key));
+            }
+        }
+        return overrides;
+    }
+
     // ============================================================
     // Specialized Builders
     // ============================================================
@@ -198,6 +580,34 @@ public class ConfigManager {
         return defaultValue;
     }
 
+    /**
+     * Get a boolean property from config with a default fallback.
+     *
+     * @param key The property key
+     * @param defaultValue The default value if property not found
+     * @return The property value as boolean
+     */
+    private static boolean getBooleanProperty(String key, boolean defaultValue) {
+        String value = getProperty(key);
+        return isEmpty(value) ? defaultValue : Boolean.parseBoolean(value.trim());
+    }
+
+    /**
+     * Get a comma-separated list property from config with a default fallback.
+     *
+     * @param key The property key
+     * @param defaultValue The default comma-separated value if property not found
+     * @return Trimmed, non-empty list items
+     */
+    private static List<String> getListProperty(String key, String defaultValue) {
+        String value = getProperty(key);
+        String list = value == null ? defaultValue : value;
+        return Arrays.stream(list.split(","))
+                .map(String::trim)
+                .filter(item -> !item.isEmpty())
+                .toList();
+    }
+
     /**
      * Check if a string is null, empty, or contains only whitespace.
      * 
@@ -0,0 +1,72 @@
+package config;
+
+import java.util.Optional;
+
+/**
+ * Shard of a suite run, selected with -Dshard=INDEX/TOTAL (e.g. -Dshard=2/4, 1-based).
+ * Each shard runs its share of the suite's test classes (see listeners.ShardSuiteFilter)
+ * and writes its results to its own output folder (test-output/shard-2-of-4).
+ */
+public class Shard {
+
+    private final int index;
+    private final int total;
+
+    private Shard(int index, int total) {
+        this.index = index;
+        this.total = total;
+    }
+
+    /**
+     * Get the shard of this run.
+     *
+     * @return Shard from the "shard" property, or empty when the whole suite runs in this JVM
+     * @throws IllegalArgumentException if the property is not INDEX/TOTAL with 1 &lt;= INDEX &lt;= TOTAL
+     */
+    public static Optional<Shard> current() {
+        String value = ConfigManager.getProperty("shard");
+        if (value == null || value.isBlank()) {
+            return Optional.empty();
+        }
+        return Optional.of(parse(value));
+    }
+
+    /**
+     * Parse a shard selection.
+     *
+     * @param value INDEX/TOTAL, e.g. 2/4
+     * @return Shard
+     * @throws IllegalArgumentException if the value is not INDEX/TOTAL with 1 &lt;= INDEX &lt;= TOTAL
+     */
+    public static Shard parse(String value) {
+        String[] parts = value.trim().split("/");
+        try {
+            int index = Integer.parseInt(parts[0].trim());
+            int total = parts.length == 2 ? Integer.parseInt(parts[1].trim()) : -1;
+            if (total >= 1 && index >= 1 && index <= total) {
+                return new Shard(index, total);
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new IllegalArgumentException("Invalid shard '" + value + "' - expected INDEX/TOTAL, e.g. -Dshard=2/4");
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    // Folder name of this shard's results, e.g. shard-2-of-4
+    public String getName() {
+        return "shard-" + index + "-of-" + total;
+    }
+
+    @Override
+    public String toString() {
+        return index + "/" + total;
+    }
+}
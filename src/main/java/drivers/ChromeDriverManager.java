@@ -6,6 +6,8 @@ import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
 import config.ConfigManager;
 
+import java.util.List;
+
 /**
  * Chrome browser driver manager.
  * Configures ChromeDriver with options for page load strategy and automation
@@ -14,7 +16,7 @@ import config.ConfigManager;
 public class ChromeDriverManager extends DriverManager {
 
     @Override
-    public WebDriver createDriver() {
+    public ChromeOptions getOptions() {
 
         boolean eager = Boolean.parseBoolean(ConfigManager.getProperty("eagerPageLoadStrategy"));
         boolean headless = isHeadless();
@@ -33,11 +35,18 @@ public class ChromeDriverManager extends DriverManager {
             options.addArguments("--start-maximized");
         }
 
+        // List (not array) so options compare equal across calls - used as DriverPool session key
         options.setExperimentalOption("excludeSwitches",
-                new String[] { "enable-automation" });
+                List.of("enable-automation"));
         options.setExperimentalOption("useAutomationExtension", false);
 
-        return new ChromeDriver(options);
+        return options;
+    }
+
+    @Override
+    public WebDriver createDriver() {
+        // Block posters, fonts, trailers and analytics before the first navigation (see ResourceBlocker)
+        return ResourceBlocker.apply(new ChromeDriver(getOptions()));
     }
 
     // ---- Private Helper Methods ----
@@ -0,0 +1,218 @@
+package drivers;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.decorators.Decorated;
+import org.openqa.selenium.support.decorators.WebDriverDecorator;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * WebDriver decorator that counts and times every WebDriver command (driver, element, navigation,
+ * alert... calls), per test and per page object method that issued it.
+ *
+ * <p>Usage: decorate the driver at test setup, and finish the trace at teardown:
+ * <pre>
+ *     WebDriver traced = CommandTracer.trace(driver);
+ *     ...
+ *     CommandTracer.Trace trace = CommandTracer.finish(traced);
+ *     WebDriver original = trace.getOriginalDriver();
+ * </pre>
+ * Suite-wide totals per page object method are kept for {@link #getSuiteTopOffenders(int)}.
+ */
+public class CommandTracer extends WebDriverDecorator<WebDriver> {
+
+    // Local calls that don't send a command to the browser
+    private static final Set<String> LOCAL_METHODS = Set.of(
+            "toString", "hashCode", "equals", "getWrappedDriver", "getWrappedElement",
+            "manage", "switchTo", "navigate", "window", "timeouts", "logs");
+
+    private static final String PAGE_PACKAGE = "pages.";
+    private static final String BASE_PAGE_CLASS = "base.BasePage";
+    private static final String OTHER_CALLER = "(other)";
+
+    // Decorated driver -> its tracer, to finish the trace and get the original driver back
+    private static final Map<WebDriver, CommandTracer> tracers = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    private static final Map<String, CommandStat> suiteStatsByCaller = new ConcurrentHashMap<>();
+
+    // Trace started on this thread and not finished yet (test setup and teardown run on the test thread)
+    private static final ThreadLocal<Trace> currentTrace = new ThreadLocal<>();
+
+    private final Trace trace;
+
+    private CommandTracer(WebDriver original) {
+        this.trace = new Trace(original);
+    }
+
+    /**
+     * Wrap a driver so all its commands are traced.
+     *
+     * @param original Driver to trace
+     * @return Decorated driver - use it in place of the original
+     */
+    public static WebDriver trace(WebDriver original) {
+        CommandTracer tracer = new CommandTracer(original);
+        WebDriver decorated = tracer.decorate(original);
+        tracers.put(decorated, tracer);
+        currentTrace.set(tracer.trace);
+        return decorated;
+    }
+
+    /**
+     * Get the trace started on the current thread, while it is still running.
+     *
+     * @return Running trace, or null if no driver was traced on this thread
+     */
+    public static Trace current() {
+        return currentTrace.get();
+    }
+
+    /**
+     * Stop tracing a decorated driver and return its trace.
+     *
+     * @param driver Driver returned by trace(), or an untraced driver
+     * @return Trace of the decorated driver, or null if the driver was not traced
+     */
+    public static Trace finish(WebDriver driver) {
+        CommandTracer tracer = tracers.remove(driver);
+        if (tracer == null) {
+            return null;
+        }
+        if (currentTrace.get() == tracer.trace) {
+            currentTrace.remove();
+        }
+        tracer.trace.statsByCaller.forEach((caller, stat) ->
+                suiteStatsByCaller.computeIfAbsent(caller, c -> new CommandStat()).add(stat));
+        return tracer.trace;
+    }
+
+    /**
+     * Get page object methods that issued the most commands over the whole suite.
+     *
+     * @param limit Max number of entries
+     * @return Lines formatted as "Caller: N commands, T ms"
+     */
+    public static List<String> getSuiteTopOffenders(int limit) {
+        return topOffenders(suiteStatsByCaller, limit);
+    }
+
+    @Override
+    public Object call(Decorated<?> target, Method method, Object[] args) throws Throwable {
+        if (LOCAL_METHODS.contains(method.getName())) {
+            return super.call(target, method, args);
+        }
+
+        String caller = findCaller();
+        long start = System.nanoTime();
+        try {
+            return super.call(target, method, args);
+        } finally {
+            trace.record(caller, System.nanoTime() - start);
+        }
+    }
+
+    // ---- Private Helpers ----
+
+    /**
+     * Find the page object method that issued the command: the closest caller in a page object,
+     * else in BasePage, else "(other)" (e.g. commands sent directly from tests or helpers).
+     */
+    private static String findCaller() {
+        return StackWalker.getInstance().walk(frames -> {
+            String basePageCaller = null;
+            for (StackWalker.StackFrame frame : (Iterable<StackWalker.StackFrame>) frames::iterator) {
+                String className = frame.getClassName();
+                if (className.startsWith(PAGE_PACKAGE)) {
+                    return simpleName(className) + "." + methodName(frame.getMethodName());
+                }
+                if (basePageCaller == null && className.equals(BASE_PAGE_CLASS)) {
+                    basePageCaller = "BasePage." + methodName(frame.getMethodName());
+                }
+            }
+            return basePageCaller != null ? basePageCaller : OTHER_CALLER;
+        });
+    }
+
+    private static String simpleName(String className) {
+        String name = className.substring(className.lastIndexOf('.') + 1);
+        int innerClass = name.indexOf('$');
+        return innerClass > 0 ? name.substring(0, innerClass) : name;
+    }
+
+    // lambda$getMovieOptionIdToTitleMap$0 -> getMovieOptionIdToTitleMap
+    private static String methodName(String methodName) {
+        if (methodName.startsWith("lambda$")) {
+            String[] parts = methodName.split("\\$");
+            return parts.length > 1 ? parts[1] : methodName;
+        }
+        return methodName;
+    }
+
+    private static List<String> topOffenders(Map<String, CommandStat> statsByCaller, int limit) {
+        return statsByCaller.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, CommandStat> entry) -> entry.getValue().count.sum())
+                        .reversed())
+                .limit(limit)
+                .map(entry -> entry.getKey() + ": " + entry.getValue().count.sum() + " commands, "
+                        + entry.getValue().nanos.sum() / 1_000_000 + " ms")
+                .toList();
+    }
+
+    /**
+     * Commands sent through one traced driver.
+     */
+    public static class Trace {
+        private final WebDriver originalDriver;
+        private final Map<String, CommandStat> statsByCaller = new ConcurrentHashMap<>();
+        private final LongAdder commandCount = new LongAdder();
+        private final LongAdder commandNanos = new LongAdder();
+
+        private Trace(WebDriver originalDriver) {
+            this.originalDriver = originalDriver;
+        }
+
+        public WebDriver getOriginalDriver() {
+            return originalDriver;
+        }
+
+        public long getCommandCount() {
+            return commandCount.sum();
+        }
+
+        public long getCommandMillis() {
+            return commandNanos.sum() / 1_000_000;
+        }
+
+        public List<String> getTopOffenders(int limit) {
+            return topOffenders(statsByCaller, limit);
+        }
+
+        private void record(String caller, long nanos) {
+            commandCount.increment();
+            commandNanos.add(nanos);
+            statsByCaller.computeIfAbsent(caller, c -> new CommandStat()).add(1, nanos);
+        }
+    }
+
+    private static class CommandStat {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        private void add(long commands, long commandNanos) {
+            count.add(commands);
+            nanos.add(commandNanos);
+        }
+
+        private void add(CommandStat other) {
+            add(other.count.sum(), other.nanos.sum());
+        }
+    }
+}
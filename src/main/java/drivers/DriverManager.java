@@ -1,20 +1,39 @@
 package drivers;
 
+import org.openqa.selenium.MutableCapabilities;
 import org.openqa.selenium.WebDriver;
 
 /**
  * Abstract base class for browser-specific driver managers.
  * Implements Factory Pattern to create WebDriver instances based on browser type.
  * 
- * Subclasses must implement createDriver() to return a configured WebDriver instance.
- * Driver lifecycle (storage, quit) is managed by BaseTest using ThreadLocal.
+ * Subclasses must implement getOptions() to return the browser options and createDriver()
+ * to return a WebDriver instance configured with them.
+ * Driver lifecycle (storage, reuse, quit) is managed by BaseTest using ThreadLocal and DriverPool.
  */
 public abstract class DriverManager {
 
+    /**
+     * Builds the browser options used by createDriver().
+     *
+     * @return Browser-specific options (capabilities)
+     */
+    public abstract MutableCapabilities getOptions();
+
     /**
      * Creates and returns a new WebDriver instance configured for the specific browser.
      * 
      * @return WebDriver instance ready for use
      */
     public abstract WebDriver createDriver();
+
+    /**
+     * Key identifying sessions created by this manager - browser name plus options.
+     * Sessions with the same key are interchangeable and can be shared through DriverPool.
+     *
+     * @return Session key
+     */
+    public String getSessionKey() {
+        return getOptions().asMap().toString();
+    }
 }
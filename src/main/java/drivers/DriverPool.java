@@ -0,0 +1,217 @@
+package drivers;
+
+import config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoAlertPresentException;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pool of reusable WebDriver sessions, keyed by browser and options (see DriverManager.getSessionKey()).
+ * Avoids paying browser startup cost for every test method.
+ *
+ * <p>Between tests a released session is reset (alerts dismissed, extra windows closed,
+ * localStorage / sessionStorage and cookies cleared, navigated to about:blank) before going back to the pool.
+ * Sessions failing the reset or the health check on acquire are quit and replaced, and sessions are recycled
+ * (quit) after driver.pool.maxUses tests to avoid browser state and memory build-up.
+ *
+ * <p>At most {@code maxIdlePerKey} idle sessions are kept per key - set it to the TestNG thread count.
+ */
+public class DriverPool {
+
+    private static final Logger LOG = LogManager.getLogger(DriverPool.class);
+
+    private static final Map<String, Deque<PooledSession>> idleSessions = new ConcurrentHashMap<>();
+    private static final Map<WebDriver, PooledSession> activeSessions = new ConcurrentHashMap<>();
+
+    private static volatile int maxIdlePerKey = 1;
+
+    // ---- Metrics ----
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+    private static final AtomicLong recycled = new AtomicLong();
+    private static final AtomicLong discarded = new AtomicLong();
+
+    /**
+     * Set the maximum number of idle sessions kept per session key.
+     *
+     * @param size Pool size per key, typically the TestNG thread count
+     */
+    public static void setMaxIdlePerKey(int size) {
+        maxIdlePerKey = Math.max(1, size);
+    }
+
+    /**
+     * Get a healthy session from the pool, or create a new one if none is available.
+     *
+     * @param driverManager Manager for the requested browser (defines the session key)
+     * @return WebDriver instance ready for use
+     */
+    public static WebDriver acquire(DriverManager driverManager) {
+        String key = driverManager.getSessionKey();
+        Deque<PooledSession> idle = idleSessions.computeIfAbsent(key, k -> new ConcurrentLinkedDeque<>());
+
+        PooledSession session;
+        while ((session = idle.pollFirst()) != null) {
+            if (isHealthy(session.driver)) {
+                hits.incrementAndGet();
+                break;
+            }
+            LOG.warn("Discard unhealthy pooled WebDriver session: " + session.driver);
+            discarded.incrementAndGet();
+            quitQuietly(session.driver);
+        }
+
+        if (session == null) {
+            misses.incrementAndGet();
+            session = new PooledSession(key, driverManager.createDriver());
+        }
+
+        session.uses.incrementAndGet();
+        activeSessions.put(session.driver, session);
+        return session.driver;
+    }
+
+    /**
+     * Return a session to the pool after a test.
+     * The session is reset for the next test, or quit if reset fails, it reached max uses, or the pool is full.
+     *
+     * @param driver WebDriver instance obtained from acquire()
+     */
+    public static void release(WebDriver driver) {
+        PooledSession session = activeSessions.remove(driver);
+        if (session == null) {
+            // Not created by the pool
+            quitQuietly(driver);
+            return;
+        }
+
+        if (session.uses.get() >= ConfigManager.getDriverPoolMaxUses()) {
+            LOG.info("Recycle WebDriver session after " + session.uses.get() + " uses: " + driver);
+            recycled.incrementAndGet();
+            quitQuietly(driver);
+            return;
+        }
+
+        if (!resetSession(driver)) {
+            discarded.incrementAndGet();
+            quitQuietly(driver);
+            return;
+        }
+
+        Deque<PooledSession> idle = idleSessions.computeIfAbsent(session.key, k -> new ConcurrentLinkedDeque<>());
+        if (idle.size() >= maxIdlePerKey) {
+            quitQuietly(driver);
+            return;
+        }
+        idle.offerFirst(session);
+    }
+
+    /**
+     * Quit all idle sessions and log pool metrics. Call once in @AfterSuite.
+     */
+    public static void shutdown() {
+        List<PooledSession> sessions = new ArrayList<>();
+        idleSessions.values().forEach(idle -> {
+            PooledSession session;
+            while ((session = idle.pollFirst()) != null) {
+                sessions.add(session);
+            }
+        });
+        sessions.forEach(session -> quitQuietly(session.driver));
+
+        LOG.info("WebDriver pool stats: " + getStats());
+    }
+
+    public static String getStats() {
+        return String.format("hits=%d, misses=%d, recycled=%d, discarded=%d",
+                hits.get(), misses.get(), recycled.get(), discarded.get());
+    }
+
+    public static long getHits() {
+        return hits.get();
+    }
+
+    public static long getMisses() {
+        return misses.get();
+    }
+
+    // ---- Private Helpers ----
+    private static boolean isHealthy(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Reset browser state left by the previous test.
+     * Storage and cookies are only reachable for the current origin, so they are cleared
+     * before navigating away to about:blank.
+     */
+    private static boolean resetSession(WebDriver driver) {
+        try {
+            dismissAlertIfPresent(driver);
+            closeExtraWindows(driver);
+
+            String currentUrl = driver.getCurrentUrl();
+            if (currentUrl != null && currentUrl.startsWith("http")) {
+                ((JavascriptExecutor) driver).executeScript(
+                        "window.localStorage.clear(); window.sessionStorage.clear();");
+            }
+            driver.manage().deleteAllCookies();
+            driver.get("about:blank");
+            return true;
+        } catch (Exception e) {
+            LOG.warn("Failed to reset WebDriver session: " + driver, e);
+            return false;
+        }
+    }
+
+    private static void dismissAlertIfPresent(WebDriver driver) {
+        try {
+            driver.switchTo().alert().dismiss();
+        } catch (NoAlertPresentException e) {
+            // No alert open
+        }
+    }
+
+    private static void closeExtraWindows(WebDriver driver) {
+        List<String> handles = new ArrayList<>(driver.getWindowHandles());
+        for (int i = 1; i < handles.size(); i++) {
+            driver.switchTo().window(handles.get(i)).close();
+        }
+        driver.switchTo().window(handles.get(0));
+    }
+
+    private static void quitQuietly(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            LOG.warn("Failed to quit WebDriver session: " + driver, e);
+        }
+    }
+
+    private static class PooledSession {
+        private final String key;
+        private final WebDriver driver;
+        private final AtomicInteger uses = new AtomicInteger();
+
+        private PooledSession(String key, WebDriver driver) {
+            this.key = key;
+            this.driver = driver;
+        }
+    }
+}
@@ -13,12 +13,18 @@ import org.openqa.selenium.edge.EdgeOptions;
 public class EdgeDriverManager extends DriverManager {
 
     @Override
-    public WebDriver createDriver() {
+    public EdgeOptions getOptions() {
         boolean eager = Boolean.parseBoolean(ConfigManager.getProperty("eagerPageLoadStrategy"));
 
         EdgeOptions options = new EdgeOptions();
         options.setPageLoadStrategy(eager ? PageLoadStrategy.EAGER : PageLoadStrategy.NORMAL);
 
-        return new EdgeDriver(options);
+        return options;
+    }
+
+    @Override
+    public WebDriver createDriver() {
+        // Block posters, fonts, trailers and analytics before the first navigation (see ResourceBlocker)
+        return ResourceBlocker.apply(new EdgeDriver(getOptions()));
     }
 }
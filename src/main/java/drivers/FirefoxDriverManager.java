@@ -13,12 +13,17 @@ import org.openqa.selenium.firefox.FirefoxOptions;
 public class FirefoxDriverManager extends DriverManager {
 
     @Override
-    public WebDriver createDriver() {
+    public FirefoxOptions getOptions() {
         boolean eager = Boolean.parseBoolean(ConfigManager.getProperty("eagerPageLoadStrategy"));
 
         FirefoxOptions options = new FirefoxOptions();
         options.setPageLoadStrategy(eager ? PageLoadStrategy.EAGER : PageLoadStrategy.NORMAL);
 
-        return new FirefoxDriver(options);
+        return options;
+    }
+
+    @Override
+    public WebDriver createDriver() {
+        return new FirefoxDriver(getOptions());
     }
 }
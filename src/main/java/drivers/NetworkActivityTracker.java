@@ -0,0 +1,168 @@
+package drivers;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks in-flight XHR / fetch requests of a browser session through Chrome DevTools Protocol network events,
+ * so page objects can wait for the backend calls behind a page to finish instead of polling for elements.
+ *
+ * <p>Attach once per session, right after the driver is created - requests sent before attaching are not seen.
+ * Raw (version-independent) CDP events are used, so it doesn't depend on the devtools module matching
+ * the browser version. Browsers without CDP (Firefox, Safari) get an unsupported tracker;
+ * {@link #waitForIdle(Duration, Duration)} then returns false and callers keep their element waits.
+ *
+ * <p>Requests in flight for longer than the wait timeout (long polling, requests cut off by a navigation
+ * without a loadingFailed event) are dropped so they can't block every later wait.
+ */
+public class NetworkActivityTracker {
+
+    private static final Logger LOG = LogManager.getLogger(NetworkActivityTracker.class);
+
+    // Resource types of backend calls - documents, images, scripts, websockets... are ignored
+    private static final Set<String> TRACKED_TYPES = Set.of("XHR", "Fetch");
+
+    // Session -> tracker; weak keys so quit sessions don't stay reachable
+    private static final Map<WebDriver, NetworkActivityTracker> trackers = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private static final NetworkActivityTracker UNSUPPORTED = new NetworkActivityTracker(false);
+
+    // Request ID -> start time (nanos)
+    private final Map<String, Long> inFlight = new ConcurrentHashMap<>();
+    private final boolean supported;
+    private volatile long lastActivityNanos = System.nanoTime();
+
+    private NetworkActivityTracker(boolean supported) {
+        this.supported = supported;
+    }
+
+    /**
+     * Start tracking network activity of a session. Does nothing if the session is already tracked.
+     *
+     * @param driver WebDriver session (decorated drivers are unwrapped)
+     * @return Tracker of the session
+     */
+    public static NetworkActivityTracker attach(WebDriver driver) {
+        WebDriver session = unwrap(driver);
+        synchronized (trackers) {
+            return trackers.computeIfAbsent(session, NetworkActivityTracker::create);
+        }
+    }
+
+    /**
+     * Check whether network events are available for this session (CDP-capable browser).
+     */
+    public boolean isSupported() {
+        return supported;
+    }
+
+    /**
+     * Wait until no XHR / fetch request has been in flight for the given quiet period.
+     *
+     * @param quietPeriod How long the network must stay idle
+     * @param timeout     Max time to wait
+     * @return true if the network went idle, false on timeout or if tracking is not supported
+     */
+    public boolean waitForIdle(Duration quietPeriod, Duration timeout) throws InterruptedException {
+        if (!supported) {
+            return false;
+        }
+
+        long quietNanos = quietPeriod.toNanos();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (this) {
+            while (true) {
+                long now = System.nanoTime();
+                expireStaleRequests(now, timeout.toNanos());
+
+                long idleNanos = inFlight.isEmpty() ? now - lastActivityNanos : 0;
+                if (idleNanos >= quietNanos) {
+                    return true;
+                }
+                if (now >= deadline) {
+                    LOG.warn("Network not idle after " + timeout.toMillis() + " ms, requests in flight: " + inFlight.size());
+                    return false;
+                }
+
+                // Woken up early by any request start / end
+                long waitNanos = Math.min(quietNanos - idleNanos, deadline - now);
+                wait(Math.max(1, waitNanos / 1_000_000));
+            }
+        }
+    }
+
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    // ---- Private Helpers ----
+    private static NetworkActivityTracker create(WebDriver driver) {
+        if (!(driver instanceof HasDevTools hasDevTools)) {
+            return UNSUPPORTED;
+        }
+
+        try {
+            DevTools devTools = hasDevTools.getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            NetworkActivityTracker tracker = new NetworkActivityTracker(true);
+
+            devTools.send(new Command<Void>("Network.enable", Map.of()));
+            devTools.addListener(networkEvent("Network.requestWillBeSent"), tracker::onRequestSent);
+            devTools.addListener(networkEvent("Network.loadingFinished"), tracker::onRequestDone);
+            devTools.addListener(networkEvent("Network.loadingFailed"), tracker::onRequestDone);
+            return tracker;
+        } catch (RuntimeException e) {
+            LOG.warn("Network tracking not available for " + driver + ": " + e.getMessage());
+            return UNSUPPORTED;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Event<Map<String, Object>> networkEvent(String method) {
+        return new Event<>(method, input -> (Map<String, Object>) input.read(Json.MAP_TYPE));
+    }
+
+    private static WebDriver unwrap(WebDriver driver) {
+        WebDriver session = driver;
+        while (session instanceof WrapsDriver wrapper && wrapper.getWrappedDriver() != session) {
+            session = wrapper.getWrappedDriver();
+        }
+        return session;
+    }
+
+    private void onRequestSent(Map<String, Object> params) {
+        if (TRACKED_TYPES.contains(String.valueOf(params.get("type")))) {
+            inFlight.put(String.valueOf(params.get("requestId")), System.nanoTime());
+            onActivity();
+        }
+    }
+
+    private void onRequestDone(Map<String, Object> params) {
+        if (inFlight.remove(String.valueOf(params.get("requestId"))) != null) {
+            onActivity();
+        }
+    }
+
+    private synchronized void onActivity() {
+        lastActivityNanos = System.nanoTime();
+        notifyAll();
+    }
+
+    private void expireStaleRequests(long now, long maxAgeNanos) {
+        inFlight.values().removeIf(startNanos -> now - startNanos > maxAgeNanos);
+    }
+}
@@ -0,0 +1,210 @@
+package drivers;
+
+import config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import utils.ConcurrentFetcher;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Blocks resources no assertion looks at (posters, fonts, trailers, third-party scripts) to speed up page loads.
+ *
+ * <p>Applied at driver creation through CDP request interception (Fetch domain): only requests matching
+ * a resource.block.deny pattern are paused, and they are failed unless they also match a resource.block.allow
+ * pattern. Patterns use * and ? wildcards, e.g. {@code *.jpg}, {@code *youtube.com/*}.
+ * Browsers without CDP (Firefox, Safari) load everything.
+ *
+ * <p>Blocked requests are counted per resource type and URL. Blocked requests never reach the network, so the browser
+ * has no size for them: with resource.block.measureSavings, {@link #toHtmlSummary()} estimates the bytes saved from
+ * the Content-Length of each distinct blocked URL (one HEAD request, times the number of times it was blocked).
+ * Download time is not estimated - the browser loads resources in parallel, so summing per-URL times overstates it.
+ */
+public class ResourceBlocker {
+
+    private static final Logger LOG = LogManager.getLogger(ResourceBlocker.class);
+
+    // Max distinct blocked URLs measured for the savings estimate
+    private static final int MAX_MEASURED_URLS = 200;
+    private static final Duration MEASURE_TIMEOUT = Duration.ofSeconds(10);
+
+    private static final Map<String, LongAdder> blockedByType = new ConcurrentHashMap<>();
+    private static final Map<String, LongAdder> blockedByUrl = new ConcurrentHashMap<>();
+
+    private ResourceBlocker() {
+        // utility class, no instantiation
+    }
+
+    /**
+     * Apply the blocking profile to a new session. Does nothing if resource.block.enabled is false,
+     * the deny list is empty or the browser has no CDP.
+     *
+     * @param driver Newly created driver
+     * @return The same driver, for chaining in createDriver()
+     */
+    public static WebDriver apply(WebDriver driver) {
+        List<String> denyPatterns = ConfigManager.getBlockedUrlPatterns();
+        if (!ConfigManager.isResourceBlockingEnabled() || denyPatterns.isEmpty()
+                || !(driver instanceof HasDevTools hasDevTools)) {
+            return driver;
+        }
+
+        List<Pattern> allowPatterns = ConfigManager.getAllowedUrlPatterns().stream()
+                .map(ResourceBlocker::toRegex)
+                .toList();
+        try {
+            DevTools devTools = hasDevTools.getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            devTools.addListener(requestPausedEvent(), params -> onRequestPaused(devTools, params, allowPatterns));
+
+            List<Map<String, Object>> fetchPatterns = denyPatterns.stream()
+                    .map(pattern -> Map.<String, Object>of("urlPattern", pattern, "requestStage", "Request"))
+                    .toList();
+            devTools.send(new Command<Void>("Fetch.enable", Map.of("patterns", fetchPatterns)));
+        } catch (RuntimeException e) {
+            LOG.warn("Resource blocking not available for " + driver + ": " + e.getMessage());
+        }
+        return driver;
+    }
+
+    public static long getBlockedCount() {
+        return blockedByType.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    /**
+     * Build an HTML summary of blocked requests per resource type, with the estimated bytes saved if measured.
+     * Sends a HEAD request per distinct blocked URL (at most 200, limited by api.concurrency) - call once at suite end.
+     */
+    public static String toHtmlSummary() {
+        StringBuilder html = new StringBuilder("<table class='table table-sm'>")
+                .append("<thead><tr><th>Resource type</th><th>Blocked requests</th></tr></thead><tbody>");
+        new TreeMap<>(blockedByType).forEach((type, count) ->
+                html.append("<tr><td>").append(type).append("</td><td>").append(count.sum()).append("</td></tr>"));
+        html.append("</tbody></table>");
+
+        if (!ConfigManager.isResourceBlockingMeasured()) {
+            LOG.info("Resource blocking: " + getBlockedCount() + " requests blocked");
+            return html.toString();
+        }
+
+        Savings savings = measureSavings();
+        html.append("<p>Estimated saved: ").append(String.format(Locale.ROOT, "%.1f", savings.bytes / 1_048_576.0))
+                .append(" MB (Content-Length of ").append(savings.measuredUrls).append(" of ")
+                .append(blockedByUrl.size()).append(" distinct URLs)</p>");
+        LOG.info("Resource blocking: " + getBlockedCount() + " requests blocked, estimated "
+                + savings.bytes + " bytes saved");
+        return html.toString();
+    }
+
+    // ---- Private Helpers ----
+    @SuppressWarnings("unchecked")
+    private static Event<Map<String, Object>> requestPausedEvent() {
+        return new Event<>("Fetch.requestPaused", input -> (Map<String, Object>) input.read(Json.MAP_TYPE));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void onRequestPaused(DevTools devTools, Map<String, Object> params, List<Pattern> allowPatterns) {
+        Object requestId = params.get("requestId");
+        String url = String.valueOf(((Map<String, Object>) params.get("request")).get("url"));
+        try {
+            if (allowPatterns.stream().anyMatch(pattern -> pattern.matcher(url).matches())) {
+                devTools.send(new Command<Void>("Fetch.continueRequest", Map.of("requestId", requestId)));
+                return;
+            }
+            devTools.send(new Command<Void>("Fetch.failRequest",
+                    Map.of("requestId", requestId, "errorReason", "BlockedByClient")));
+            blockedByType.computeIfAbsent(String.valueOf(params.get("resourceType")), t -> new LongAdder()).increment();
+            blockedByUrl.computeIfAbsent(url, u -> new LongAdder()).increment();
+        } catch (RuntimeException e) {
+            // Session closed or request already gone (page navigated away)
+            LOG.debug("Failed to handle paused request " + url + ": " + e.getMessage());
+        }
+    }
+
+    // Wildcard pattern (* and ?) to regex
+    private static Pattern toRegex(String wildcardPattern) {
+        String regex = wildcardPattern.chars()
+                .mapToObj(c -> switch (c) {
+                    case '*' -> ".*";
+                    case '?' -> ".";
+                    default -> Pattern.quote(String.valueOf((char) c));
+                })
+                .collect(Collectors.joining());
+        return Pattern.compile(regex, Pattern.CASE_INSENSITIVE);
+    }
+
+    private static Savings measureSavings() {
+        Savings savings = new Savings();
+        if (blockedByUrl.isEmpty()) {
+            return savings;
+        }
+
+        List<String> urls = blockedByUrl.entrySet().stream()
+                .sorted((a, b) -> Long.compare(b.getValue().sum(), a.getValue().sum()))
+                .limit(MAX_MEASURED_URLS)
+                .map(Map.Entry::getKey)
+                .toList();
+
+        try (HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(MEASURE_TIMEOUT)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build()) {
+            List<Long> measured = ConcurrentFetcher.fetchAll(urls, url -> savedBytes(client, url),
+                    ConfigManager.getApiConcurrency());
+            for (Long bytes : measured) {
+                if (bytes != null) {
+                    savings.bytes += bytes;
+                    savings.measuredUrls++;
+                }
+            }
+        }
+        return savings;
+    }
+
+    // Content-Length of a blocked URL (HEAD, no body) times the number of times it was blocked; null if unknown
+    private static Long savedBytes(HttpClient client, String url) {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url)).timeout(MEASURE_TIMEOUT)
+                    .method("HEAD", HttpRequest.BodyPublishers.noBody()).build();
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() >= 400) {
+                return null;
+            }
+            OptionalLong contentLength = response.headers().firstValueAsLong("Content-Length");
+            if (contentLength.isEmpty()) {
+                return null;
+            }
+            return contentLength.getAsLong() * blockedByUrl.get(url).sum();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception e) {
+            LOG.debug("Failed to measure blocked resource " + url + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static class Savings {
+        private long bytes;
+        private int measuredUrls;
+    }
+}
@@ -13,12 +13,17 @@ import org.openqa.selenium.safari.SafariOptions;
 public class SafariDriverManager extends DriverManager {
 
     @Override
-    public WebDriver createDriver() {
+    public SafariOptions getOptions() {
         boolean eager = Boolean.parseBoolean(ConfigManager.getProperty("eagerPageLoadStrategy"));
 
         SafariOptions options = new SafariOptions();
         options.setPageLoadStrategy(eager ? PageLoadStrategy.EAGER : PageLoadStrategy.NORMAL);
 
-        return new SafariDriver(options);
+        return options;
+    }
+
+    @Override
+    public WebDriver createDriver() {
+        return new SafariDriver(getOptions());
     }
 }
@@ -0,0 +1,216 @@
+package listeners;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Historical test class durations (seconds), stored as JSON in schedule.history.file.
+ * Shared by DurationAwareScheduler (ordering within a run), ShardSuiteFilter (splitting a suite across JVMs)
+ * and runner.TestCoordinator (queue order across worker JVMs).
+ *
+ * <p>Shards don't update the history: each one saves its measured durations in its result bundle
+ * ({@link #saveMeasured(Path, Map)}), and reports.ReportMerger folds all bundles into the history at the merge step
+ * ({@link #foldMeasured(List)}). A bundle only holds the timings of its latest run - ShardSuiteFilter clears them when
+ * the run starts - and they are folded in once: afterwards the file is renamed to MERGED_MEASURED_FILE.
+ *
+ * <p>Updates are safe across JVMs sharing the file: each one holds an exclusive lock on a sibling .lock file
+ * while it reads, merges and rewrites the history, and the new content is moved in place atomically,
+ * so readers never see a half-written file.
+ */
+public class ClassDurationHistory {
+
+    private static final Logger LOG = LogManager.getLogger(ClassDurationHistory.class);
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    // Weight of the latest run in the stored moving average
+    private static final double LATEST_RUN_WEIGHT = 0.5;
+
+    private static final Object LOCK = new Object();
+
+    // Measured class durations of a shard, in its result bundle
+    public static final String MEASURED_FILE = "class-durations.json";
+    // MEASURED_FILE after it was folded into the history
+    public static final String MERGED_MEASURED_FILE = "class-durations.merged.json";
+
+    private ClassDurationHistory() {
+        // utility class, no instantiation
+    }
+
+    /**
+     * Read the stored durations.
+     *
+     * @return Class name -> average duration in seconds (empty if there's no history yet)
+     */
+    public static Map<String, Double> read() {
+        return read(getFile());
+    }
+
+    /**
+     * Read durations from a given file, e.g. a history snapshot or a bundle's measured durations.
+     *
+     * @return Class name -> duration in seconds (empty if the file doesn't exist or can't be read)
+     */
+    public static Map<String, Double> read(Path file) {
+        if (!Files.exists(file)) {
+            return new TreeMap<>();
+        }
+        try {
+            return MAPPER.readValue(file.toFile(), new TypeReference<TreeMap<String, Double>>() {});
+        } catch (IOException e) {
+            LOG.warn("Failed to read class durations: " + file, e);
+            return new TreeMap<>();
+        }
+    }
+
+    /**
+     * Add measured class durations to a result bundle's MEASURED_FILE, to be folded into the history when the
+     * bundles are merged.
+     *
+     * @param bundleDir       Result bundle folder (the shard's output folder)
+     * @param measuredSeconds Class name -> duration measured in this run, in seconds
+     */
+    public static void saveMeasured(Path bundleDir, Map<String, Double> measuredSeconds) {
+        Path file = bundleDir.resolve(MEASURED_FILE).toAbsolutePath();
+        synchronized (LOCK) {
+            try {
+                Files.createDirectories(file.getParent());
+                Map<String, Double> measured = read(file);
+                measured.putAll(measuredSeconds);
+                write(file, measured);
+            } catch (IOException e) {
+                LOG.warn("Failed to write measured class durations: " + file, e);
+            }
+        }
+    }
+
+    /**
+     * Delete a result bundle's measured durations, folded in or not. Call once when a shard run starts.
+     *
+     * @param bundleDir Result bundle folder (the shard's output folder)
+     */
+    public static void clearMeasured(Path bundleDir) {
+        synchronized (LOCK) {
+            try {
+                Files.deleteIfExists(bundleDir.resolve(MEASURED_FILE));
+                Files.deleteIfExists(bundleDir.resolve(MERGED_MEASURED_FILE));
+            } catch (IOException e) {
+                LOG.warn("Failed to delete measured class durations in " + bundleDir, e);
+            }
+        }
+    }
+
+    /**
+     * Fold the measured durations of result bundles into the history, then rename each bundle's MEASURED_FILE to
+     * MERGED_MEASURED_FILE, so merging the same bundles again doesn't count them twice.
+     *
+     * @param bundleDirs Result bundle folders
+     * @return Number of class durations folded in (0 if no bundle has unmerged durations)
+     */
+    public static int foldMeasured(List<Path> bundleDirs) throws IOException {
+        Map<String, Double> measuredSeconds = new TreeMap<>();
+        List<Path> measuredFiles = new ArrayList<>();
+        for (Path bundleDir : bundleDirs) {
+            Path file = bundleDir.resolve(MEASURED_FILE);
+            if (Files.exists(file)) {
+                measuredSeconds.putAll(read(file));
+                measuredFiles.add(file);
+            }
+        }
+        if (!measuredSeconds.isEmpty()) {
+            update(measuredSeconds);
+        }
+        for (Path file : measuredFiles) {
+            Files.move(file, file.resolveSibling(MERGED_MEASURED_FILE), StandardCopyOption.REPLACE_EXISTING);
+        }
+        return measuredSeconds.size();
+    }
+
+    /**
+     * Fold measured class durations into the stored moving averages.
+     *
+     * @param measuredSeconds Class name -> duration measured in this run, in seconds
+     */
+    public static void update(Map<String, Double> measuredSeconds) {
+        Path file = getFile().toAbsolutePath();
+        // FileLock is held per JVM - threads of this JVM take turns on LOCK first
+        synchronized (LOCK) {
+            try {
+                Files.createDirectories(file.getParent());
+                try (FileChannel lockChannel = FileChannel.open(file.resolveSibling(file.getFileName() + ".lock"),
+                        StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                     FileLock ignored = lockChannel.lock()) {
+                    Map<String, Double> history = read(file);
+                    measuredSeconds.forEach((className, measured) -> history.merge(className, measured,
+                            (previous, latest) -> previous * (1 - LATEST_RUN_WEIGHT) + latest * LATEST_RUN_WEIGHT));
+                    write(file, history);
+                }
+            } catch (IOException e) {
+                LOG.warn("Failed to write class duration history: " + file, e);
+            }
+        }
+    }
+
+    /**
+     * Static estimate for a class without history: its @Test method count x schedule.defaultMethodSeconds.
+     *
+     * @param className   Fully qualified test class name
+     * @param methodCount Number of test methods, or -1 to count the @Test methods of the class
+     * @return Estimated duration in seconds
+     */
+    public static double estimate(String className, int methodCount) {
+        int methods = methodCount >= 0 ? methodCount : countTestMethods(className);
+        return Math.max(1, methods) * (double) ConfigManager.getDefaultMethodSeconds();
+    }
+
+    // ---- Private Helpers ----
+    private static Path getFile() {
+        return Paths.get(ConfigManager.getScheduleHistoryFile());
+    }
+
+    // Write to a temp file in the same folder, then move it in place
+    private static void write(Path file, Map<String, Double> history) throws IOException {
+        Path tempFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            MAPPER.writeValue(tempFile.toFile(), history);
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private static int countTestMethods(String className) {
+        try {
+            Class<?> testClass = Class.forName(className, false, Thread.currentThread().getContextClassLoader());
+            if (testClass.isAnnotationPresent(Test.class)) {
+                return (int) Arrays.stream(testClass.getDeclaredMethods())
+                        .filter(method -> Modifier.isPublic(method.getModifiers()))
+                        .count();
+            }
+            return (int) Arrays.stream(testClass.getMethods())
+                    .filter(method -> method.isAnnotationPresent(Test.class))
+                    .count();
+        } catch (ClassNotFoundException | LinkageError e) {
+            return 1;
+        }
+    }
+}
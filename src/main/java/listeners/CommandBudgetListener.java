@@ -0,0 +1,33 @@
+package listeners;
+
+import config.ConfigManager;
+import drivers.CommandTracer;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+/**
+ * TestNG listener enforcing the per-test WebDriver command budget (driver.trace.budget) when tracing is enabled.
+ * Checked right after the test method returns, so a passing test over budget is reported as failed
+ * by every other listener and by the report.
+ */
+public class CommandBudgetListener implements IInvokedMethodListener {
+
+    private static final int TOP_OFFENDERS = 5;
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod() || testResult.getStatus() != ITestResult.SUCCESS) {
+            return;
+        }
+        int budget = ConfigManager.getCommandBudget();
+        CommandTracer.Trace trace = CommandTracer.current();
+        if (budget <= 0 || trace == null || trace.getCommandCount() <= budget) {
+            return;
+        }
+
+        testResult.setStatus(ITestResult.FAILURE);
+        testResult.setThrowable(new AssertionError("WebDriver command budget exceeded: " + trace.getCommandCount()
+                + " commands > budget " + budget + ". Top: " + trace.getTopOffenders(TOP_OFFENDERS)));
+    }
+}
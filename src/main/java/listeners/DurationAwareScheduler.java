@@ -0,0 +1,145 @@
+package listeners;
+
+import config.ConfigManager;
+import config.Shard;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IClassListener;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestClass;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+import reports.ExtentReportManager;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * TestNG listener ordering test classes longest-first, so long classes (e.g. TC35, TC49) start early
+ * instead of running last while the other threads sit idle.
+ *
+ * <p>Class durations are read from a local history file (schedule.history.file), updated at the end of every
+ * &lt;test&gt; with the measured class durations (moving average of the last runs). Sharded runs save their
+ * measured durations in the shard's result bundle instead, for the merge step. Classes without history
+ * are estimated as test method count x schedule.defaultMethodSeconds (see ClassDurationHistory).
+ *
+ * <p>TestNG hands classes to free threads in the intercepted order, which makes this a
+ * longest-processing-time-first schedule. The predicted makespan (LPT simulation over the &lt;test&gt;'s
+ * thread count) and the actual one are logged and added to the run summary page.
+ *
+ * <p>Register it in the suite XML next to TestListener:
+ * <pre>
+ *     &lt;listener class-name="listeners.DurationAwareScheduler" /&gt;
+ * </pre>
+ */
+public class DurationAwareScheduler implements IMethodInterceptor, IClassListener, ITestListener {
+
+    private static final Logger LOG = LogManager.getLogger(DurationAwareScheduler.class);
+
+    // Class name -> start nanos / measured seconds, for the current run
+    private final Map<String, Long> classStartNanos = new ConcurrentHashMap<>();
+    private final Map<String, Double> measuredSeconds = new ConcurrentHashMap<>();
+    // <test> name -> predicted makespan in seconds
+    private final Map<String, Double> predictedMakespans = new ConcurrentHashMap<>();
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        // Group methods by class, keeping the method order within a class
+        Map<String, List<IMethodInstance>> methodsByClass = new LinkedHashMap<>();
+        for (IMethodInstance method : methods) {
+            String className = method.getMethod().getTestClass().getName();
+            methodsByClass.computeIfAbsent(className, c -> new ArrayList<>()).add(method);
+        }
+
+        Map<String, Double> history = ClassDurationHistory.read();
+        Map<String, Double> estimates = new LinkedHashMap<>();
+        methodsByClass.forEach((className, classMethods) -> estimates.put(className,
+                history.getOrDefault(className, ClassDurationHistory.estimate(className, classMethods.size()))));
+
+        List<String> orderedClasses = new ArrayList<>(estimates.keySet());
+        orderedClasses.sort(Comparator.comparingDouble(estimates::get).reversed());
+
+        int threads = getThreadCount(context.getCurrentXmlTest());
+        double predicted = makespan(orderedClasses.stream().map(estimates::get).toList(), threads);
+        predictedMakespans.put(context.getName(), predicted);
+        LOG.info("Schedule for " + context.getName() + " (" + threads + " threads, predicted makespan "
+                + seconds(predicted) + "s): " + orderedClasses.stream()
+                .map(className -> simpleName(className) + "=" + seconds(estimates.get(className)) + "s")
+                .toList());
+
+        List<IMethodInstance> ordered = new ArrayList<>(methods.size());
+        orderedClasses.forEach(className -> ordered.addAll(methodsByClass.get(className)));
+        return ordered;
+    }
+
+    @Override
+    public void onBeforeClass(ITestClass testClass) {
+        classStartNanos.put(testClass.getName(), System.nanoTime());
+    }
+
+    @Override
+    public void onAfterClass(ITestClass testClass) {
+        Long start = classStartNanos.remove(testClass.getName());
+        if (start != null) {
+            measuredSeconds.put(testClass.getName(), (System.nanoTime() - start) / 1_000_000_000.0);
+        }
+    }
+
+    @Override
+    public void onFinish(ITestContext context) {
+        Double predicted = predictedMakespans.remove(context.getName());
+        if (predicted == null) {
+            return;
+        }
+        double actual = (context.getEndDate().getTime() - context.getStartDate().getTime()) / 1000.0;
+        String summary = "Predicted makespan: " + seconds(predicted) + "s, actual: " + seconds(actual) + "s";
+        LOG.info("Schedule for " + context.getName() + " - " + summary);
+        ExtentReportManager.addSummary("Schedule: " + context.getName(), summary);
+
+        if (Shard.current().isPresent()) {
+            ClassDurationHistory.saveMeasured(Paths.get(ConfigManager.getOutputDir()), measuredSeconds);
+        } else {
+            ClassDurationHistory.update(measuredSeconds);
+        }
+        measuredSeconds.clear();
+    }
+
+    // ---- Private Helpers ----
+    private static int getThreadCount(XmlTest xmlTest) {
+        XmlSuite.ParallelMode parallel = xmlTest.getParallel();
+        if (parallel == null || parallel == XmlSuite.ParallelMode.NONE) {
+            return 1;
+        }
+        return Math.max(1, xmlTest.getThreadCount());
+    }
+
+    // List scheduling in the given order: each class goes to the thread that frees up first
+    private static double makespan(List<Double> durations, int threads) {
+        PriorityQueue<Double> threadLoads = new PriorityQueue<>();
+        for (int i = 0; i < threads; i++) {
+            threadLoads.add(0.0);
+        }
+        for (double duration : durations) {
+            threadLoads.add(threadLoads.poll() + duration);
+        }
+        return threadLoads.stream().mapToDouble(Double::doubleValue).max().orElse(0);
+    }
+
+    private static String simpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+
+    private static String seconds(double seconds) {
+        return String.format(Locale.ROOT, "%.1f", seconds);
+    }
+}
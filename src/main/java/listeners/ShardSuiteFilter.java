@@ -0,0 +1,162 @@
+package listeners;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import config.ConfigManager;
+import config.Shard;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlPackage;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Splits the test classes of a suite XML across JVMs / nodes when run with -Dshard=INDEX/TOTAL (e.g. -Dshard=2/4),
+ * and keeps only this shard's classes. Does nothing without the shard property.
+ *
+ * <p>Partitions are balanced by estimated class duration: classes are taken longest-first and each goes to the least
+ * loaded shard, ties broken by class name and shard index. Estimates come from the snapshot given with
+ * -Dshard.history=&lt;file&gt; (a copy of schedule.history.file, the same for every shard), else from the static
+ * estimate (test method count x schedule.defaultMethodSeconds). The local history file, which changes from run
+ * to run and node to node, is never used, so every shard computes the same partitions from the same suite XML.
+ *
+ * <p>The shard's assigned classes are written to bundle.json in its output folder (test-output/shard-2-of-4),
+ * which together with the report journal and screenshots is the shard's result bundle (see reports.ReportMerger).
+ * Measured class durations of an earlier run in that folder are deleted when the suite starts.
+ *
+ * <p>Register it in the suite XML:
+ * <pre>
+ *     &lt;listener class-name="listeners.ShardSuiteFilter" /&gt;
+ * </pre>
+ */
+public class ShardSuiteFilter implements IAlterSuiteListener {
+
+    private static final Logger LOG = LogManager.getLogger(ShardSuiteFilter.class);
+
+    public static final String BUNDLE_MANIFEST = "bundle.json";
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        Shard shard = Shard.current().orElse(null);
+        if (shard == null) {
+            return;
+        }
+
+        // The output folder is reused by every run of this shard - drop the timings of the previous one
+        ClassDurationHistory.clearMeasured(Paths.get(ConfigManager.getOutputDir()));
+
+        Map<String, List<String>> assignedClassesBySuite = new LinkedHashMap<>();
+        for (XmlSuite suite : suites) {
+            assignedClassesBySuite.put(suite.getName(), filterSuite(suite, shard));
+        }
+        writeManifest(shard, assignedClassesBySuite);
+    }
+
+    /**
+     * Resolve the &lt;packages&gt; of every &lt;test&gt; to &lt;classes&gt;, so the suite's classes can be split.
+     *
+     * @param suite Parsed suite XML (modified in place)
+     * @return Names of all test classes of the suite, sorted
+     */
+    public static Set<String> resolveClasses(XmlSuite suite) {
+        for (XmlTest test : suite.getTests()) {
+            List<XmlClass> classes = new ArrayList<>(test.getXmlClasses());
+            for (XmlPackage xmlPackage : test.getXmlPackages()) {
+                classes.addAll(xmlPackage.getXmlClasses());
+            }
+            test.setXmlPackages(new ArrayList<>());
+            test.setXmlClasses(classes);
+        }
+        return allClassNames(suite);
+    }
+
+    // ---- Private Helpers ----
+    private static List<String> filterSuite(XmlSuite suite, Shard shard) {
+        Set<String> assigned = partition(estimate(resolveClasses(suite)), shard);
+        for (XmlTest test : suite.getTests()) {
+            test.getXmlClasses().removeIf(xmlClass -> !assigned.contains(xmlClass.getName()));
+        }
+        suite.getTests().removeIf(test -> test.getXmlClasses().isEmpty());
+
+        LOG.info("Shard " + shard + " of suite '" + suite.getName() + "' runs " + assigned.size() + " classes: " + assigned);
+        return new ArrayList<>(assigned);
+    }
+
+    private static Set<String> allClassNames(XmlSuite suite) {
+        Set<String> classNames = new TreeSet<>();
+        suite.getTests().forEach(test -> test.getXmlClasses().forEach(xmlClass -> classNames.add(xmlClass.getName())));
+        return classNames;
+    }
+
+    // Class name -> estimated seconds, from the shard.history snapshot or static estimates
+    private static Map<String, Double> estimate(Set<String> classNames) {
+        String snapshotFile = ConfigManager.getShardHistoryFile();
+        Map<String, Double> snapshot = snapshotFile == null ? Map.of() : ClassDurationHistory.read(Paths.get(snapshotFile));
+        if (snapshotFile != null && snapshot.isEmpty()) {
+            LOG.warn("Shard history snapshot " + snapshotFile + " is missing or empty - using static estimates");
+        }
+
+        Map<String, Double> estimates = new LinkedHashMap<>();
+        classNames.forEach(className -> estimates.put(className,
+                snapshot.getOrDefault(className, ClassDurationHistory.estimate(className, -1))));
+        return estimates;
+    }
+
+    /**
+     * Longest-first greedy partition.
+     *
+     * @param estimates Class name -> estimated seconds, for every class of the suite
+     * @param shard     Shard to get the classes of
+     * @return Classes of the given shard, sorted
+     */
+    static Set<String> partition(Map<String, Double> estimates, Shard shard) {
+        List<String> ordered = new ArrayList<>(estimates.keySet());
+        ordered.sort(Comparator.comparingDouble((String className) -> estimates.get(className)).reversed()
+                .thenComparing(Comparator.naturalOrder()));
+
+        double[] shardLoads = new double[shard.getTotal()];
+        Set<String> assigned = new TreeSet<>();
+        for (String className : ordered) {
+            int target = 0;
+            for (int i = 1; i < shardLoads.length; i++) {
+                if (shardLoads[i] < shardLoads[target]) {
+                    target = i;
+                }
+            }
+            shardLoads[target] += estimates.get(className);
+            if (target == shard.getIndex() - 1) {
+                assigned.add(className);
+            }
+        }
+        return assigned;
+    }
+
+    private static void writeManifest(Shard shard, Map<String, List<String>> assignedClassesBySuite) {
+        Path manifest = Paths.get(ConfigManager.getOutputDir(), BUNDLE_MANIFEST);
+        Map<String, Object> content = new LinkedHashMap<>();
+        content.put("shard", shard.toString());
+        content.put("index", shard.getIndex());
+        content.put("total", shard.getTotal());
+        content.put("suites", assignedClassesBySuite);
+        try {
+            Files.createDirectories(manifest.getParent());
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(manifest.toFile(), content);
+        } catch (IOException e) {
+            LOG.warn("Failed to write shard manifest: " + manifest, e);
+        }
+    }
+}
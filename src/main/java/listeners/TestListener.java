@@ -5,10 +5,12 @@ import org.apache.logging.log4j.Logger;
 import org.testng.ITestContext;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
+import reports.TestTimings;
 
 /**
  * TestNG listener for logging test execution events.
- * Logs test start, success, failure, and skip events to Log4j.
+ * Logs test start, success, failure, and skip events to Log4j,
+ * and records the test body duration as the "test" phase of the test's timing breakdown (see TestTimings).
  */
 public class TestListener implements ITestListener {
 
@@ -23,18 +25,21 @@ public class TestListener implements ITestListener {
     @Override
     public void onTestSuccess(ITestResult result) {
         String methodName = result.getMethod().getMethodName();
+        recordTestBodyTime(result);
         LOG.info("===== PASSED TEST: " + methodName + " =====");
     }
 
     @Override
     public void onTestFailure(ITestResult result) {
         String methodName = result.getMethod().getMethodName();
+        recordTestBodyTime(result);
         LOG.error("===== FAILED TEST: " + methodName + " =====", result.getThrowable());
     }
 
     @Override
     public void onTestSkipped(ITestResult result) {
         String methodName = result.getMethod().getMethodName();
+        recordTestBodyTime(result);
         LOG.warn("===== SKIPPED TEST: " + methodName + " =====");
     }
 
@@ -47,4 +52,11 @@ public class TestListener implements ITestListener {
     public void onFinish(ITestContext context) {
         LOG.info(">>> FINISH TEST SUITE: " + context.getName());
     }
+
+    // Test body only - setup and teardown are timed by BaseTest
+    private void recordTestBodyTime(ITestResult result) {
+        if (result.getStartMillis() > 0 && result.getEndMillis() >= result.getStartMillis()) {
+            TestTimings.record("test", (result.getEndMillis() - result.getStartMillis()) * 1_000_000);
+        }
+    }
 }
@@ -0,0 +1,14 @@
+package model.api.response;
+
+import lombok.Data;
+
+/**
+ * Login API response.
+ * Keeps the access token plus the raw user object JSON exactly as returned by the API,
+ * so it can be written into browser storage the same way the web app does after UI login.
+ */
+@Data
+public class LoginResponse {
+    private final String accessToken;
+    private final String userJson;
+}
@@ -2,6 +2,7 @@ package model.api.response;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.Data;
+import utils.DateTimeNormalizer;
 
 import java.util.HashMap;
 import java.util.List;
@@ -75,4 +76,21 @@ public class MovieSchedule {
         return cinemaBranches;
     }
 
+    /**
+     * Get showtime IDs and normalized datetimes (dd/MM/yyyy HH:mm) for a specific cinema branch.
+     *
+     * @param branchId The cinema branch ID
+     * @return Map where key is showtime ID and value is normalized datetime string
+     */
+    public Map<String, String> getShowtimeIdToDatetimeMap(String branchId) {
+        return this.heThongRapChieu.stream()
+                .flatMap(cinemaSys -> cinemaSys.getCumRapChieu().stream())
+                .filter(branch -> branch.getMaCumRap().trim().equals(branchId))
+                .flatMap(branch -> branch.getLichChieuPhim().stream())
+                .collect(Collectors.toMap(
+                        ShowtimeDetails::getMaLichChieu,
+                        showtime -> DateTimeNormalizer.normalize(showtime.getNgayChieuGioChieu())
+                ));
+    }
+
 }
@@ -0,0 +1,112 @@
+package model.ui;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Point-in-time state of every seat on the booking page seat map, captured in one JavaScript call.
+ * Seats are kept in DOM order; lookups by seat number are O(1).
+ *
+ * <p>Booked seats are rendered as disabled buttons and may lose their seat number label (e.g. "X"),
+ * so {@link #diff(SeatMapSnapshot)} matches seats by their position in the seat map, not by label.
+ */
+@Data
+public class SeatMapSnapshot {
+
+    private final List<Seat> seats;
+    private final Map<String, Seat> seatsByNumber;
+
+    public SeatMapSnapshot(List<Seat> seats) {
+        this.seats = List.copyOf(seats);
+        Map<String, Seat> byNumber = new LinkedHashMap<>();
+        for (Seat seat : this.seats) {
+            byNumber.putIfAbsent(seat.getSeatNumber(), seat);
+        }
+        this.seatsByNumber = Collections.unmodifiableMap(byNumber);
+    }
+
+    public Seat getSeat(String seatNumber) {
+        return seatsByNumber.get(seatNumber);
+    }
+
+    public boolean isSeatAvailable(String seatNumber) {
+        Seat seat = seatsByNumber.get(seatNumber);
+        return seat != null && !seat.isDisabled();
+    }
+
+    public boolean areSeatsAvailable(List<String> seatNumbers) {
+        return seatNumbers.stream().allMatch(this::isSeatAvailable);
+    }
+
+    public List<String> getAvailableSeatNumbers() {
+        return seats.stream()
+                .filter(seat -> !seat.isDisabled())
+                .map(Seat::getSeatNumber)
+                .toList();
+    }
+
+    public List<String> getSelectedSeatNumbers() {
+        return seats.stream()
+                .filter(Seat::isSelected)
+                .map(Seat::getSeatNumber)
+                .toList();
+    }
+
+    /**
+     * Compare this (earlier) snapshot with a later one of the same seat map.
+     * Seat numbers in the result are taken from the snapshot where the seat is available, since booked seats
+     * may lose their label.
+     *
+     * @param later Snapshot taken after this one
+     * @return Seats whose availability or selection changed
+     * @throws IllegalArgumentException if the snapshots have a different seat count (different seat maps)
+     */
+    public Diff diff(SeatMapSnapshot later) {
+        if (later.seats.size() != seats.size()) {
+            throw new IllegalArgumentException("Cannot diff seat maps of different size: " +
+                    seats.size() + " vs " + later.seats.size());
+        }
+
+        Diff diff = new Diff();
+        for (int i = 0; i < seats.size(); i++) {
+            Seat before = seats.get(i);
+            Seat after = later.seats.get(i);
+            if (!before.isDisabled() && after.isDisabled()) {
+                diff.becameUnavailable.add(before.getSeatNumber());
+            } else if (before.isDisabled() && !after.isDisabled()) {
+                diff.becameAvailable.add(after.getSeatNumber());
+            }
+            if (!before.isSelected() && after.isSelected()) {
+                diff.becameSelected.add(before.getSeatNumber());
+            } else if (before.isSelected() && !after.isSelected()) {
+                diff.becameDeselected.add(before.getSeatNumber());
+            }
+        }
+        return diff;
+    }
+
+    @Data
+    public static class Seat {
+        private final String seatNumber;
+        private final boolean disabled;
+        private final boolean selected;
+    }
+
+    @Data
+    public static class Diff {
+        private final List<String> becameUnavailable = new ArrayList<>();
+        private final List<String> becameAvailable = new ArrayList<>();
+        private final List<String> becameSelected = new ArrayList<>();
+        private final List<String> becameDeselected = new ArrayList<>();
+
+        public boolean isEmpty() {
+            return becameUnavailable.isEmpty() && becameAvailable.isEmpty()
+                    && becameSelected.isEmpty() && becameDeselected.isEmpty();
+        }
+    }
+}
@@ -2,16 +2,20 @@ package pages;
 
 import config.urlConstants;
 import model.enums.BookingSummaryField;
+import model.ui.SeatMapSnapshot;
 import model.ui.ShowtimeDetails;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.PageFactory;
 import pages.components.PopupDialog;
 
+import java.net.URI;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import static utils.DateTimeNormalizer.normalize;
 
@@ -24,10 +28,6 @@ public class BookingPage extends CommonPage {
     // ---- Page Elements ----
     // ============================================
 
-    // Available seats: buttons that are NOT disabled and NOT the "ĐẶT VÉ" (Purchase) button
-    @FindBy(xpath = "//button[not(@disabled)][not(contains(., 'ĐẶT VÉ'))]")
-    private List<WebElement> btnAvailableSeats;
-
     @FindBy(xpath = ".//button[not(.='ĐẶT VÉ')]")
     private List<WebElement> btnAllSeats;
 
@@ -37,6 +37,14 @@ public class BookingPage extends CommonPage {
     @FindBy(xpath= "//button[.='ĐẶT VÉ']//ancestor::div[1]")
     private WebElement divSummarySection;
 
+    // Reads label, disabled state and selected style (inline background color) of every seat button in one call
+    private static final String SEAT_MAP_SCRIPT =
+            "return Array.from(document.querySelectorAll('button'))" +
+            "  .filter(function (btn) { return btn.textContent.indexOf('ĐẶT VÉ') === -1; })" +
+            "  .map(function (btn) {" +
+            "    return { label: btn.textContent.trim(), disabled: btn.disabled, selected: btn.style.backgroundColor !== '' };" +
+            "  });";
+
     // ---- Components ----
     // Popup dialog for booking response - success, empty selection error, unauthenticated error
     private PopupDialog dlgResponse;
@@ -60,6 +68,12 @@ public class BookingPage extends CommonPage {
         driver.get(url(String.format(urlConstants.SHOWTIME, showtimeId)));
     }
 
+    // Showtime ID of the open booking page, from its URL (/purchase/{showtimeId})
+    public String getShowtimeId() {
+        String path = URI.create(driver.getCurrentUrl()).getPath();
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+
     // ---- Wait Helpers  ----
     /**
      * Wait for the seat map to fully load - regardless of seat availability
@@ -67,6 +81,8 @@ public class BookingPage extends CommonPage {
      */
     public void waitForSeatMapToLoad() {
         LOG.info("Waiting for seat map to load");
+        // Seat map is rendered from the showtime API response - returns as soon as it arrives
+        waitForNetworkIdle();
         waitForVisibilityOfAllElementsLocated(btnAllSeats);
     }
 
@@ -117,27 +133,39 @@ public class BookingPage extends CommonPage {
 
     // ---- Getters ----
     // Seat availability states and seat numbers
-    public List<String> getAvailableSeatNumbers() {
-        LOG.info("Get Available Seat Numbers");
+    /**
+     * Capture label, disabled state and selected state of every seat in a single JavaScript call.
+     * Query the returned snapshot instead of the DOM for multiple seat checks.
+     *
+     * @return Snapshot of the seat map after it has loaded
+     */
+    @SuppressWarnings("unchecked")
+    public SeatMapSnapshot getSeatMapSnapshot() {
         waitForSeatMapToLoad();
-        return btnAvailableSeats.stream()
-                .map(WebElement::getText)
+        List<Map<String, Object>> rawSeats = (List<Map<String, Object>>)
+                ((JavascriptExecutor) driver).executeScript(SEAT_MAP_SCRIPT);
+
+        List<SeatMapSnapshot.Seat> seats = rawSeats.stream()
+                .map(seat -> new SeatMapSnapshot.Seat(
+                        String.valueOf(seat.get("label")),
+                        Boolean.TRUE.equals(seat.get("disabled")),
+                        Boolean.TRUE.equals(seat.get("selected"))))
                 .toList();
+        return new SeatMapSnapshot(seats);
+    }
+
+    public List<String> getAvailableSeatNumbers() {
+        LOG.info("Get Available Seat Numbers");
+        return getSeatMapSnapshot().getAvailableSeatNumbers();
     }
 
     public boolean isSeatAvailable(String seatNumber) {
-        waitForSeatMapToLoad();
-        try {
-            By seatLocator = By.xpath(String.format("//button[.='%s']", seatNumber));
-            WebElement seatElement = waitForVisibilityOfElementLocatedBy(seatLocator);
-            return isElementDisplayed(seatElement);
-        } catch (Exception e) {
-            return false;
-        }
+        return getSeatMapSnapshot().isSeatAvailable(seatNumber);
     }
 
     public boolean areSeatsAvailable(List<String> seatNumbers) {
-        return seatNumbers.stream().allMatch(this::isSeatAvailable);
+        // One snapshot for all seats instead of a lookup + wait per seat
+        return getSeatMapSnapshot().areSeatsAvailable(seatNumbers);
     }
 
     // Summary section details
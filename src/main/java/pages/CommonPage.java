@@ -2,6 +2,7 @@ package pages;
 
 import base.BasePage;
 import pages.components.TopBarNavigation;
+import config.ConfigManager;
 import config.urlConstants;
 import org.openqa.selenium.WebDriver;
 
@@ -35,4 +36,25 @@ public class CommonPage extends BasePage {
         String showtimeUrl = String.format(url(urlConstants.SHOWTIME), showtimeId);
         return waitForUrl(showtimeUrl);
     }
+
+    /**
+     * Log in by writing a session obtained from the login API into browser storage, skipping the login form.
+     * Opens the homepage (storage is per origin), stores the user object (and token, if a token key is configured)
+     * under the keys the web app reads, then reloads so the app picks up the session.
+     *
+     * @param userJson Raw user object JSON returned by the login API
+     * @param accessToken Access token returned by the login API
+     */
+    public void injectLoginSession(String userJson, String accessToken) {
+        LOG.info("Inject login session into browser storage");
+        driver.get(url(urlConstants.HOME));
+
+        setLocalStorageItem(ConfigManager.getRequiredProperty("auth.storage.userKey"), userJson);
+        String tokenKey = ConfigManager.getProperty("auth.storage.tokenKey");
+        if (tokenKey != null && !tokenKey.isBlank()) {
+            setLocalStorageItem(tokenKey, accessToken);
+        }
+
+        refreshPage();
+    }
 }
@@ -11,7 +11,6 @@ import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.PageFactory;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -44,8 +43,9 @@ public class ChainedDropdownsHome extends BasePage {
     // ============================================
 
     // ---- Wait Methods ----
-    // Wait for first movie option to load / be present
+    // Wait for movie list API call to finish and first movie option to load / be present
     public void waitForDropdownsToLoad() {
+        waitForNetworkIdle();
         WebElement selMovie = getSelectFilter(MovieDropdownField.MOVIE);
         Actions actions = new Actions(driver);
         actions.scrollToElement(selMovie).perform();
@@ -90,36 +90,28 @@ public class ChainedDropdownsHome extends BasePage {
         By bySelMovie = getSelectLocator(MovieDropdownField.MOVIE);
         By byOptionMovie = getOptionLocator(MovieDropdownField.MOVIE);
 
-        List<WebElement> movieOptions = waitForAllNestedElementsToBePresent(bySelMovie, byOptionMovie);
+        waitForAllNestedElementsToBePresent(bySelMovie, byOptionMovie);
 
-        for (WebElement option : movieOptions) {
-            String title = getText(option);
-            String id = getFieldValue(option);
-            movieTitlesWithIds.put(id, title);
-        }
+        // All option values/texts in one script call instead of two round-trips per option
+        movieTitlesWithIds.putAll(getSelectOptionSnapshot(driver.findElement(bySelMovie)));
         return movieTitlesWithIds;
     }
 
     public Map<String, String> getCinemaBranchOptionIdToNameMap() {
 
         Map<String, String> cinemaNamesWithIds = new HashMap<>();
-        List<WebElement> cinemaOptions;
 
         By bySelCinema = getSelectLocator(MovieDropdownField.CINEMA);
         By byOptionCinema = getOptionLocator(MovieDropdownField.CINEMA);
 
         try {
-           cinemaOptions = waitForAllNestedElementsToBePresent(bySelCinema, byOptionCinema);
+           waitForAllNestedElementsToBePresent(bySelCinema, byOptionCinema);
         } catch (Exception e) {
             LOG.warn("No cinema options found in dropdown");
             return cinemaNamesWithIds; // Return empty map if no options found
         }
 
-        for (WebElement option : cinemaOptions) {
-            String name = getText(option);
-            String id = getFieldValue(option);
-            cinemaNamesWithIds.put(id, name);
-        }
+        cinemaNamesWithIds.putAll(getSelectOptionSnapshot(driver.findElement(bySelCinema)));
         return cinemaNamesWithIds;
     }
 
@@ -127,22 +119,15 @@ public class ChainedDropdownsHome extends BasePage {
         Map<String, String> showtimeDatetimesWithIds = new HashMap<>();
         By bySelShowtime = getSelectLocator(MovieDropdownField.SHOWTIME);
         By byOptionShowtime = getOptionLocator(MovieDropdownField.SHOWTIME);
-        List<WebElement> showtimeOptions;
         try {
-            showtimeOptions = waitForAllNestedElementsToBePresent(bySelShowtime, byOptionShowtime);
+            waitForAllNestedElementsToBePresent(bySelShowtime, byOptionShowtime);
         } catch (Exception e) {
             LOG.warn("No showtime options found in dropdown");  // consider logging currently selected movie/cinema for debugging
             return showtimeDatetimesWithIds;                    // Return empty map if no options found
         }
 
-        for (WebElement option : showtimeOptions) {
-            String datetime = getText(option);
-            String normalizedDatetime = DateTimeNormalizer.normalize(datetime);
-
-            String id = getFieldValue(option);
-
-            showtimeDatetimesWithIds.put(id, normalizedDatetime);
-        }
+        getSelectOptionSnapshot(driver.findElement(bySelShowtime)).forEach((id, datetime) ->
+                showtimeDatetimesWithIds.put(id, DateTimeNormalizer.normalize(datetime)));
         return showtimeDatetimesWithIds;
     }
 
@@ -1,100 +1,196 @@
 package reports;
 
 import com.aventstack.extentreports.ExtentReports;
-import com.aventstack.extentreports.ExtentTest;
-import com.aventstack.extentreports.MediaEntityBuilder;
+import com.aventstack.extentreports.Status;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
-import org.apache.commons.io.FileUtils;
+import config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
 
-import java.io.File;
 import java.io.IOException;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Manages ExtentReports for test reporting.
  * Handles report initialization, test logging, and screenshot capture.
  * Thread-safe for parallel test execution.
+ *
+ * <p>Report events are appended to an on-disk journal (see ReportJournal) as they happen, and the HTML report
+ * is built from the journal in flushReports(). If a run crashes, its journal is turned into
+ * ExtentReport-recovered.html at the start of the next run.
+ *
+ * <p>Suite-level summaries (timings, schedule, ...) are not tests: they go to a separate page next to the report,
+ * e.g. ExtentReport-summary.html, so they don't count in the report's test totals.
  */
 public class ExtentReportManager {
 
-    private static ExtentReports extent;
-    private static ThreadLocal<ExtentTest> test = new ThreadLocal<>(); // mỗi thread 1 ExtentTest
-    private static final String REPORT_PATH = "test-output/ExtentReport.html";
-    private static final String SCREENSHOT_PATH = "test-output/screenshots/";
+    private static final Logger LOG = LogManager.getLogger(ExtentReportManager.class);
 
-    public static void initializeExtentReports() {
-        ExtentSparkReporter sparkReporter = new ExtentSparkReporter(REPORT_PATH);
+    private static ReportJournal journal;
+    private static ThreadLocal<Long> test = new ThreadLocal<>(); // mỗi thread 1 test (journal ID)
+    private static final String OUTPUT_DIR = ConfigManager.getOutputDir();
+    private static final String REPORT_PATH = OUTPUT_DIR + "/ExtentReport.html";
+    private static final String RECOVERED_REPORT_PATH = OUTPUT_DIR + "/ExtentReport-recovered.html";
+    static final String JOURNAL_FILE = "report-events.jsonl";
+    private static final Path JOURNAL_PATH = Paths.get(OUTPUT_DIR, JOURNAL_FILE);
+    private static final String SCREENSHOT_PATH = "screenshots/";   // relative to the report folder
+    private static ThreadLocal<List<String>> testScreenshots = ThreadLocal.withInitial(ArrayList::new);
+    private static final String SUMMARY_PAGE_SUFFIX = "-summary.html";
 
-        // generate self-contained HTML reports. By setting this to true, the report loads necessary assets (CSS, JS) locally, ensuring it works without an internet connection.
-        sparkReporter.config().setOfflineMode(true);
-
-        extent = new ExtentReports();
-        extent.attachReporter(sparkReporter);
+    public static void initializeExtentReports() {
+        // Previous run died before flushReports() - keep what it recorded
+        if (ReportJournal.isIncomplete(JOURNAL_PATH)) {
+            LOG.warn("Found report journal of an unfinished run - rebuilding it to " + RECOVERED_REPORT_PATH);
+            buildReport(JOURNAL_PATH, RECOVERED_REPORT_PATH);
+        }
 
-        extent.setSystemInfo("OS", System.getProperty("os.name"));
-        extent.setSystemInfo("User", System.getProperty("user.name"));
+        try {
+            journal = new ReportJournal(JOURNAL_PATH);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to create report journal: " + JOURNAL_PATH, e);
+        }
     }
 
     public static void createTest(String testName) {
-        ExtentTest extentTest = extent.createTest(testName); // tuong ung voi 1 test case (ten @Test)
-        test.set(extentTest);
+        long testId = journal.createTest(testName); // tuong ung voi 1 test case (ten @Test)
+        test.set(testId);
+        testScreenshots.remove();
     }
 
-    private static ExtentTest getTest() {
+    private static long getTest() {
         return test.get();
     }
 
     public static void info(String msg) {
-        getTest().info(msg);
+        journal.log(getTest(), Status.INFO, msg);
     }
 
     public static void pass(String msg) {
-        getTest().pass(msg);
+        journal.log(getTest(), Status.PASS, msg);
     }
 
     public static void fail(String msg) {
-        getTest().fail(msg);
+        journal.log(getTest(), Status.FAIL, msg);
     }
 
     public static void warn(String msg) {
-        getTest().warning(msg);
+        journal.log(getTest(), Status.WARNING, msg);
     }
 
     public static void skip(String msg) {
-        getTest().skip(msg);
+        journal.log(getTest(), Status.SKIP, msg);
+    }
+
+    /**
+     * Add a suite-level summary section (e.g. a timing table) to the summary page of the report.
+     *
+     * @param title Section title
+     * @param html  HTML content
+     */
+    public static void addSummary(String title, String html) {
+        journal.summary(title, html);
     }
 
     /**
      * Capture screenshot and attach to ExtentReport.
      * Can be called during soft assertions or on final test failure.
+     * Returns as soon as the image bytes are grabbed - the file is written by ScreenshotWriter in the background.
+     *
+     * <p>Screenshots are deduplicated by content (see ScreenshotStore), so repeated failures on the same page
+     * state always link the stored image. screenshot.maxPerTest caps only the new images a test stores:
+     * past the cap, a failure showing a page state not stored yet is logged without an image.
      *
      * @param driver WebDriver instance
-     * @param testName Name of the test (used for screenshot filename)
+     * @param testName Name of the test (logged with the screenshot)
      */
     public static void captureScreenshot(WebDriver driver, String testName) {
-        TakesScreenshot screenshot = (TakesScreenshot) driver;
-        File sourceFile = screenshot.getScreenshotAs(OutputType.FILE);
+        byte[] imageBytes = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+        String fileName = ScreenshotStore.fileName(imageBytes);
+
+        List<String> screenshots = testScreenshots.get();
+        if (!screenshots.contains(fileName) && !ScreenshotStore.isStored(fileName)) {
+            int maxScreenshots = ConfigManager.getMaxScreenshotsPerTest();
+            if (screenshots.size() >= maxScreenshots) {
+                journal.log(getTest(), Status.FAIL, "Screenshot not attached: " + testName + " already stored "
+                        + maxScreenshots + " distinct screenshots (screenshot.maxPerTest)");
+                return;
+            }
+            ScreenshotStore.store(imageBytes, fileName);
+            screenshots.add(fileName);
+        }
+
+        // Recorded right away (only a path reference) to keep the log order; the file lands before flushReports()
+        journal.screenshot(getTest(), Status.FAIL, "Screenshot captured", SCREENSHOT_PATH + fileName);
+    }
+
+    public static void flushReports() {
+        // Make sure every screenshot referenced in the report is on disk
+        ScreenshotWriter.drain();
+        if (journal != null) {
+            journal.close();
+            buildReport(journal.getPath(), REPORT_PATH);
+        }
+    }
+
+    // ---- Private Helpers ----
+    private static void buildReport(Path journalPath, String reportPath) {
+        buildReport(List.of(journalPath), reportPath);
+        buildSummaryPage(journalPath, Paths.get(reportPath.replaceFirst("\\.html$", "") + SUMMARY_PAGE_SUFFIX));
+    }
+
+    // Replay one or more journals (e.g. one per shard, see ReportMerger) into one HTML report
+    static void buildReport(List<Path> journalPaths, String reportPath) {
+        ExtentSparkReporter sparkReporter = new ExtentSparkReporter(reportPath);
+
+        // generate self-contained HTML reports. By setting this to true, the report loads necessary assets (CSS, JS) locally, ensuring it works without an internet connection.
+        sparkReporter.config().setOfflineMode(true);
+
+        ExtentReports extent = new ExtentReports();
+        extent.attachReporter(sparkReporter);
+
+        extent.setSystemInfo("OS", System.getProperty("os.name"));
+        extent.setSystemInfo("User", System.getProperty("user.name"));
 
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-        String fileName = testName + "_" + timestamp + ".png";
-        File destFile = new File(SCREENSHOT_PATH + fileName);
+        for (Path journalPath : journalPaths) {
+            try {
+                ReportJournal.replay(journalPath, extent);
+            } catch (IOException e) {
+                LOG.error("Failed to read report journal: " + journalPath, e);
+            }
+        }
+        extent.flush();
+    }
 
+    // Write the journal's summaries, in the order they were added, as one plain HTML page
+    private static void buildSummaryPage(Path journalPath, Path summaryPath) {
+        StringBuilder sections = new StringBuilder();
         try {
-            FileUtils.copyFile(sourceFile, destFile);
-            String relativePath = "screenshots/" + fileName;
-            getTest().fail("Screenshot captured", MediaEntityBuilder.createScreenCaptureFromPath(relativePath).build());
+            ReportJournal.forEachEvent(journalPath, event -> {
+                if (ReportJournal.SUMMARY.equals(event.getType())) {
+                    sections.append("<h2>").append(escapeHtml(event.getTitle())).append("</h2>\n")
+                            .append(event.getMessage()).append("\n");
+                }
+            });
+            if (sections.isEmpty()) {
+                return;
+            }
+            Files.writeString(summaryPath, "<!DOCTYPE html>\n<html><head><meta charset=\"UTF-8\"><title>Run Summary</title>"
+                    + "</head>\n<body>\n" + sections + "</body></html>\n", StandardCharsets.UTF_8);
+            LOG.info("Run summary written to " + summaryPath.toAbsolutePath());
         } catch (IOException e) {
-            throw new RuntimeException(e);
+            LOG.error("Failed to write run summary: " + summaryPath, e);
         }
     }
 
-    public static void flushReports() {
-        if(extent != null) {
-            extent.flush();
-        }
+    private static String escapeHtml(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
     }
 }
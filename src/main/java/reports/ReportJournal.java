@@ -0,0 +1,249 @@
+package reports;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.MediaEntityBuilder;
+import com.aventstack.extentreports.Status;
+import com.aventstack.extentreports.model.Log;
+import com.aventstack.extentreports.model.Test;
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Append-only JSON-lines journal of report events (test created, log entries, screenshots, suite summaries).
+ *
+ * <p>Every event is written and flushed to disk as it happens, so nothing is lost if the JVM dies,
+ * and no report model is kept in heap during the run. The HTML report is built from the journal
+ * by {@link #replay(Path, ExtentReports)}; a journal without the closing SUITE_END event
+ * is a crashed run and can still be replayed into a partial report.
+ */
+class ReportJournal {
+
+    private static final Logger LOG = LogManager.getLogger(ReportJournal.class);
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    static final String CREATE_TEST = "CREATE_TEST";
+    static final String LOG_ENTRY = "LOG";
+    static final String SCREENSHOT = "SCREENSHOT";
+    static final String SUMMARY = "SUMMARY";
+    static final String SUITE_END = "SUITE_END";
+
+    private final Path path;
+    private final BufferedWriter writer;
+    private final AtomicLong testIds = new AtomicLong();
+
+    /**
+     * Start a new (empty) journal at the given path, replacing any previous one.
+     */
+    ReportJournal(Path path) throws IOException {
+        this.path = path;
+        Files.createDirectories(path.getParent());
+        this.writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    /**
+     * Record a new test.
+     *
+     * @return Journal ID of the test, used by the other events of this test
+     */
+    long createTest(String testName) {
+        long testId = testIds.incrementAndGet();
+        append(new Event(CREATE_TEST, testId, null, testName, null));
+        return testId;
+    }
+
+    void log(long testId, Status status, String message) {
+        append(new Event(LOG_ENTRY, testId, status.name(), message, null));
+    }
+
+    void screenshot(long testId, Status status, String message, String mediaPath) {
+        append(new Event(SCREENSHOT, testId, status.name(), message, mediaPath));
+    }
+
+    /**
+     * Record a suite-level summary. Summaries are not tests - replay leaves them out of the report's test list.
+     */
+    void summary(String title, String html) {
+        Event event = new Event(SUMMARY, 0, null, html, null);
+        event.setTitle(title);
+        append(event);
+    }
+
+    /**
+     * Mark the suite as complete and close the journal.
+     */
+    synchronized void close() {
+        try {
+            writeLine(new Event(SUITE_END, 0, null, null, null));
+            writer.close();
+        } catch (IOException e) {
+            LOG.warn("Failed to close report journal: " + path, e);
+        }
+    }
+
+    /**
+     * Check whether a journal was left by a run that never reached SUITE_END (crashed or killed).
+     */
+    static boolean isIncomplete(Path journal) {
+        if (!Files.exists(journal)) {
+            return false;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(journal, StandardCharsets.UTF_8)) {
+            String line;
+            String lastLine = null;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    lastLine = line;
+                }
+            }
+            if (lastLine == null) {
+                return false;
+            }
+            return !SUITE_END.equals(MAPPER.readValue(lastLine, Event.class).getType());
+        } catch (JacksonException e) {
+            // Last line cut off mid-write
+            return true;
+        } catch (IOException e) {
+            LOG.warn("Failed to read report journal: " + journal, e);
+            return false;
+        }
+    }
+
+    /**
+     * Rebuild the report model from a journal, event by event.
+     * A truncated last line (crash mid-write) is skipped, and so are summaries (see {@link #summary(String, String)}).
+     *
+     * @param journal Journal file
+     * @param extent  ExtentReports instance with reporters attached
+     */
+    static void replay(Path journal, ExtentReports extent) throws IOException {
+        Map<Long, ExtentTest> tests = new HashMap<>();
+        forEachEvent(journal, event -> apply(event, extent, tests));
+    }
+
+    /**
+     * Read a journal event by event, in the order they were written.
+     * Blank lines and unreadable lines (e.g. a truncated last line after a crash mid-write) are skipped.
+     *
+     * @param journal Journal file
+     * @param action  Called for each event
+     */
+    static void forEachEvent(Path journal, Consumer<Event> action) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(journal, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                Event event;
+                try {
+                    event = MAPPER.readValue(line, Event.class);
+                } catch (IOException e) {
+                    LOG.warn("Skip unreadable report journal line: " + line);
+                    continue;
+                }
+                action.accept(event);
+            }
+        }
+    }
+
+    // ---- Private Helpers ----
+    private static void apply(Event event, ExtentReports extent, Map<Long, ExtentTest> tests) {
+        if (SUMMARY.equals(event.getType())) {
+            return;
+        }
+        if (CREATE_TEST.equals(event.getType())) {
+            ExtentTest test = extent.createTest(event.getMessage());
+            test.getModel().setStartTime(new Date(event.getTimestamp()));
+            test.getModel().setEndTime(new Date(event.getTimestamp()));
+            tests.put(event.getTestId(), test);
+            return;
+        }
+
+        ExtentTest test = tests.get(event.getTestId());
+        if (test == null) {
+            return;
+        }
+        Status status = Status.valueOf(event.getStatus());
+        if (SCREENSHOT.equals(event.getType())) {
+            test.log(status, event.getMessage(),
+                    MediaEntityBuilder.createScreenCaptureFromPath(event.getMediaPath()).build());
+        } else if (LOG_ENTRY.equals(event.getType())) {
+            test.log(status, event.getMessage());
+        }
+
+        // Keep the original event time instead of the replay time
+        Test model = test.getModel();
+        List<Log> logs = model.getLogs();
+        if (!logs.isEmpty()) {
+            logs.getLast().setTimestamp(new Date(event.getTimestamp()));
+        }
+        model.setEndTime(new Date(event.getTimestamp()));
+    }
+
+    private void append(Event event) {
+        synchronized (this) {
+            try {
+                writeLine(event);
+            } catch (IOException e) {
+                LOG.warn("Failed to write report journal: " + path, e);
+            }
+        }
+    }
+
+    private void writeLine(Event event) throws IOException {
+        writer.write(MAPPER.writeValueAsString(event));
+        writer.newLine();
+        // Flush per event - the journal must survive a JVM crash
+        writer.flush();
+    }
+
+    @Data
+    @NoArgsConstructor
+    static class Event {
+        private String type;
+        private long testId;
+        private String status;
+        private String message;
+        private String mediaPath;
+        private String title;
+        private long timestamp;
+        private String thread;
+
+        Event(String type, long testId, String status, String message, String mediaPath) {
+            this.type = type;
+            this.testId = testId;
+            this.status = status;
+            this.message = message;
+            this.mediaPath = mediaPath;
+            this.timestamp = System.currentTimeMillis();
+            this.thread = Thread.currentThread().getName();
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package reports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import config.Shard;
+import listeners.ClassDurationHistory;
+import listeners.ShardSuiteFilter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Merges the result bundles of a sharded run (test-output/shard-INDEX-of-TOTAL folders, see listeners.ShardSuiteFilter)
+ * into one ExtentReport: every shard's report journal is replayed into the same report, so totals cover all shards,
+ * and screenshots are copied next to it (content-addressed names, so shared screenshots are copied once).
+ * Per-shard summaries are left out - each stays on its shard's summary page. The class durations measured by
+ * the shards are folded into the duration history (listeners.ClassDurationHistory) here, once per bundle run:
+ * merging the same bundles again rebuilds the report but leaves the history alone.
+ *
+ * <p>Shard bundles (with a bundle.json) must be one complete set: the same shard total and every index 1..TOTAL,
+ * so bundles left over from a run with another total are rejected instead of being reported twice.
+ *
+ * <p>Usage (see the mergeReports Gradle task):
+ * <pre>
+ *     ReportMerger [bundleDir...]     - default: all shard-* folders in test-output
+ * </pre>
+ * The merged report is written to test-output/merged/ExtentReport.html.
+ */
+public class ReportMerger {
+
+    private static final Logger LOG = LogManager.getLogger(ReportMerger.class);
+
+    private static final Path DEFAULT_BUNDLE_ROOT = Paths.get("test-output");
+    private static final Path MERGED_DIR = DEFAULT_BUNDLE_ROOT.resolve("merged");
+    private static final String SHARD_DIR_PREFIX = "shard-";
+    private static final String SCREENSHOT_DIR = "screenshots";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private ReportMerger() {
+        // utility class, no instantiation
+    }
+
+    public static void main(String[] args) throws IOException {
+        List<Path> bundles = args.length > 0
+                ? Arrays.stream(args).map(Paths::get).toList()
+                : findBundles(DEFAULT_BUNDLE_ROOT);
+        if (bundles.isEmpty()) {
+            throw new IllegalStateException("No shard result bundles found in " + DEFAULT_BUNDLE_ROOT.toAbsolutePath());
+        }
+        merge(bundles, MERGED_DIR);
+    }
+
+    /**
+     * Merge result bundles into one report.
+     *
+     * @param bundles   Shard output folders (each with report-events.jsonl and screenshots/)
+     * @param outputDir Folder of the merged report
+     * @throws IllegalStateException if the shard bundles are not one complete set of shards
+     */
+    public static void merge(List<Path> bundles, Path outputDir) throws IOException {
+        checkShards(bundles);
+
+        List<Path> journals = new ArrayList<>();
+        for (Path bundle : bundles) {
+            Path journal = bundle.resolve(ExtentReportManager.JOURNAL_FILE);
+            if (!Files.exists(journal)) {
+                LOG.warn("Skip bundle without report journal: " + bundle);
+                continue;
+            }
+            if (ReportJournal.isIncomplete(journal)) {
+                LOG.warn("Bundle " + bundle + " is from an unfinished run - its report is partial");
+            }
+            journals.add(journal);
+            copyScreenshots(bundle.resolve(SCREENSHOT_DIR), outputDir.resolve(SCREENSHOT_DIR));
+        }
+
+        Path report = outputDir.resolve("ExtentReport.html");
+        ExtentReportManager.buildReport(journals, report.toString());
+        LOG.info("Merged " + journals.size() + " result bundles into " + report.toAbsolutePath());
+
+        int folded = ClassDurationHistory.foldMeasured(bundles);
+        if (folded > 0) {
+            LOG.info("Added " + folded + " measured class durations to the duration history");
+        }
+    }
+
+    /**
+     * Check that the shard bundles among the given ones belong to one run: one shard total, each index 1..TOTAL once.
+     * Bundles without bundle.json (e.g. runner.TestCoordinator worker folders) are not checked.
+     *
+     * @param bundles Result bundle folders
+     * @throws IllegalStateException on mixed totals, or missing or duplicate shard indexes
+     */
+    static void checkShards(List<Path> bundles) throws IOException {
+        Map<Path, Shard> shards = new TreeMap<>();
+        for (Path bundle : bundles) {
+            Path manifest = bundle.resolve(ShardSuiteFilter.BUNDLE_MANIFEST);
+            if (Files.exists(manifest)) {
+                shards.put(bundle, Shard.parse(MAPPER.readTree(manifest.toFile()).path("shard").asText()));
+            }
+        }
+        if (shards.isEmpty()) {
+            return;
+        }
+
+        Set<Integer> totals = shards.values().stream().map(Shard::getTotal).collect(Collectors.toCollection(TreeSet::new));
+        if (totals.size() > 1) {
+            throw new IllegalStateException("Bundles of runs with different shard totals " + totals + ": " + shards
+                    + " - delete the stale shard-* folders or pass the bundles to merge");
+        }
+        int total = totals.iterator().next();
+        List<Integer> indexes = shards.values().stream().map(Shard::getIndex).sorted().toList();
+        if (!indexes.equals(IntStream.rangeClosed(1, total).boxed().toList())) {
+            throw new IllegalStateException("Expected shards 1.." + total + " once each, got " + indexes + ": " + shards);
+        }
+    }
+
+    // ---- Private Helpers ----
+    private static List<Path> findBundles(Path root) throws IOException {
+        if (!Files.isDirectory(root)) {
+            return List.of();
+        }
+        try (Stream<Path> children = Files.list(root)) {
+            return children
+                    .filter(Files::isDirectory)
+                    .filter(dir -> dir.getFileName().toString().startsWith(SHARD_DIR_PREFIX))
+                    .sorted(Comparator.comparing(dir -> dir.getFileName().toString()))
+                    .toList();
+        }
+    }
+
+    private static void copyScreenshots(Path source, Path target) throws IOException {
+        if (!Files.isDirectory(source)) {
+            return;
+        }
+        Files.createDirectories(target);
+        try (Stream<Path> screenshots = Files.list(source)) {
+            for (Path screenshot : screenshots.toList()) {
+                if (screenshot.getFileName().toString().endsWith(".tmp")) {
+                    continue;
+                }
+                Path copy = target.resolve(screenshot.getFileName());
+                // Same name = same content
+                if (!Files.exists(copy)) {
+                    Files.copy(screenshot, copy);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package reports;
+
+import config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Content-addressed screenshot store.
+ *
+ * <p>Each screenshot is named after the SHA-256 of its raw bytes, so identical page states
+ * (e.g. many soft failures on the same page) are stored once and shared by every report entry.
+ * New images are downscaled to screenshot.maxWidth and re-encoded to screenshot.format / screenshot.quality
+ * by ScreenshotWriter in the background.
+ */
+class ScreenshotStore {
+
+    private static final Logger LOG = LogManager.getLogger(ScreenshotStore.class);
+
+    private static final Path SCREENSHOT_DIR = Paths.get(ConfigManager.getOutputDir(), "screenshots");
+    private static final int HASH_LENGTH = 24;
+
+    private static final Set<String> storedFileNames = ConcurrentHashMap.newKeySet();
+
+    private ScreenshotStore() {
+        // utility class, no instantiation
+    }
+
+    /**
+     * Get the file name a screenshot is (or would be) stored under.
+     *
+     * @param pngBytes Raw screenshot bytes (PNG, as returned by WebDriver)
+     * @return File name relative to the screenshots folder
+     */
+    static String fileName(byte[] pngBytes) {
+        return hash(pngBytes) + "." + ConfigManager.getScreenshotFormat();
+    }
+
+    static boolean isStored(String fileName) {
+        return storedFileNames.contains(fileName);
+    }
+
+    /**
+     * Store a screenshot, unless an identical one was already stored in this run.
+     *
+     * @param pngBytes Raw screenshot bytes (PNG, as returned by WebDriver)
+     * @param fileName File name from {@link #fileName(byte[])}
+     */
+    static void store(byte[] pngBytes, String fileName) {
+        if (storedFileNames.add(fileName)) {
+            Path target = SCREENSHOT_DIR.resolve(fileName);
+            String format = fileName.substring(fileName.lastIndexOf('.') + 1);
+            ScreenshotWriter.submit(() -> encodeAndWrite(pngBytes, target, format));
+        }
+    }
+
+    // ---- Private Helpers ----
+    private static String hash(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            return HexFormat.of().formatHex(digest).substring(0, HASH_LENGTH);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static void encodeAndWrite(byte[] pngBytes, Path target, String format) {
+        try {
+            Files.createDirectories(target.getParent());
+            if (Files.exists(target)) {
+                return;
+            }
+
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(pngBytes));
+            if (image == null) {
+                // Not decodable - keep the original bytes so the report link still works
+                Files.write(target, pngBytes);
+                return;
+            }
+            writeImage(downscale(image), target, format);
+        } catch (IOException e) {
+            LOG.warn("Failed to write screenshot: " + target, e);
+        }
+    }
+
+    /**
+     * Scale the image down to screenshot.maxWidth (keeping aspect ratio) and drop the alpha channel,
+     * which lossy formats like jpg don't support.
+     */
+    private static BufferedImage downscale(BufferedImage image) {
+        int maxWidth = ConfigManager.getScreenshotMaxWidth();
+        int width = image.getWidth();
+        int height = image.getHeight();
+        if (maxWidth > 0 && width > maxWidth) {
+            height = Math.max(1, (int) Math.round(height * (double) maxWidth / width));
+            width = maxWidth;
+        }
+
+        BufferedImage result = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = result.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return result;
+    }
+
+    private static void writeImage(BufferedImage image, Path target, String format) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(format);
+        if (!writers.hasNext()) {
+            throw new IOException("No image writer for format: " + format);
+        }
+
+        ImageWriter writer = writers.next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        if (param.canWriteCompressed() && !"png".equals(format)) {
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            int quality = Math.clamp(ConfigManager.getScreenshotQuality(), 1, 100);
+            param.setCompressionQuality(quality / 100f);
+        }
+
+        // Write to a temp file first, so a half-written image is never picked up as already stored
+        Path tempFile = target.resolveSibling(target.getFileName() + ".tmp");
+        Files.deleteIfExists(tempFile);
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(tempFile.toFile())) {
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+}
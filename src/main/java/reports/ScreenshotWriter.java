@@ -0,0 +1,91 @@
+package reports;
+
+import config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded background writer for screenshot files.
+ * Test threads only hand over the raw image bytes; encoding and disk I/O run on writer threads.
+ *
+ * <p>The queue is bounded (screenshot.writer.queueSize). When it is full, the submitting test thread
+ * writes the file itself, so a burst of failures can't pile up unbounded image bytes in heap.
+ * {@link #drain()} blocks until every submitted screenshot is on disk - call it before flushing the report.
+ */
+class ScreenshotWriter {
+
+    private static final Logger LOG = LogManager.getLogger(ScreenshotWriter.class);
+
+    private static final long DRAIN_TIMEOUT_MILLIS = 60_000;
+
+    private static final ThreadPoolExecutor executor = createExecutor();
+
+    private static final Object PENDING_LOCK = new Object();
+    private static int pendingWrites = 0;
+
+    private ScreenshotWriter() {
+        // utility class, no instantiation
+    }
+
+    /**
+     * Queue a screenshot encode / write task.
+     *
+     * @param writeTask Task writing one screenshot file (should not throw)
+     */
+    static void submit(Runnable writeTask) {
+        synchronized (PENDING_LOCK) {
+            pendingWrites++;
+        }
+        executor.execute(() -> {
+            try {
+                writeTask.run();
+            } catch (RuntimeException e) {
+                LOG.warn("Failed to write screenshot", e);
+            } finally {
+                synchronized (PENDING_LOCK) {
+                    pendingWrites--;
+                    PENDING_LOCK.notifyAll();
+                }
+            }
+        });
+    }
+
+    /**
+     * Wait until all submitted screenshots are written (drain barrier).
+     */
+    static void drain() {
+        long deadline = System.currentTimeMillis() + DRAIN_TIMEOUT_MILLIS;
+        synchronized (PENDING_LOCK) {
+            while (pendingWrites > 0) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    LOG.warn("Timed out waiting for " + pendingWrites + " screenshots to be written");
+                    return;
+                }
+                try {
+                    PENDING_LOCK.wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    // ---- Private Helpers ----
+    private static ThreadPoolExecutor createExecutor() {
+        int threads = Math.max(1, ConfigManager.getScreenshotWriterThreads());
+        int queueSize = Math.max(1, ConfigManager.getScreenshotQueueSize());
+        return new ThreadPoolExecutor(
+                threads, threads, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                Thread.ofPlatform().name("screenshot-writer-", 0).daemon().factory(),
+                // Back-pressure: queue full -> the test thread writes the screenshot itself
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+}
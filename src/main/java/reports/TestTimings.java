@@ -0,0 +1,251 @@
+package reports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Per-test, per-phase timing collector.
+ *
+ * <p>A test's timing is started in BaseTest.beforeMethod and finished at the end of afterMethod.
+ * In between, phases are timed on the test thread (or on helper threads via {@link #current()}):
+ * <ul>
+ *   <li>setup / setup.driver / setup.user - beforeMethod and its parallel setup tasks</li>
+ *   <li>test - the test method body (recorded by TestListener)</li>
+ *   <li>wait - BasePage wait helpers</li>
+ *   <li>api - ApiClient calls</li>
+ *   <li>teardown - afterMethod</li>
+ * </ul>
+ * Phases overlap (waits and API calls happen inside setup / test), so they don't add up to the total.
+ * {@link #writeReports()} writes the breakdown as JSON and as a Prometheus text exposition file.
+ */
+public class TestTimings {
+
+    private static final Logger LOG = LogManager.getLogger(TestTimings.class);
+
+    private static final Path OUTPUT_DIR = Paths.get(ConfigManager.getOutputDir(), "timings");
+    private static final String JSON_FILE = "test-timings.json";
+    private static final String PROMETHEUS_FILE = "test-timings.prom";
+
+    private static final ThreadLocal<TestTiming> current = new ThreadLocal<>();
+    private static final Queue<TestTiming> finished = new ConcurrentLinkedQueue<>();
+    private static final AtomicLong runIds = new AtomicLong();
+
+    private TestTimings() {
+        // utility class, no instantiation
+    }
+
+    /**
+     * Start collecting timings for a test on the current thread.
+     */
+    public static void start(String testName) {
+        current.set(new TestTiming(runIds.incrementAndGet(), testName));
+    }
+
+    /**
+     * Stop collecting timings for the current thread's test and keep its breakdown for the reports.
+     *
+     * @param status Test result (PASS, FAIL, SKIP)
+     */
+    public static void finish(String status) {
+        TestTiming timing = current.get();
+        if (timing == null) {
+            return;
+        }
+        current.remove();
+        timing.finish(status);
+        finished.add(timing);
+        LOG.info("Timing " + timing.testName + ": " + timing.formatPhases());
+    }
+
+    /**
+     * Get the timing of the current thread's test, e.g. to time work handed to another thread.
+     *
+     * @return Current test timing, or null when called outside a test
+     */
+    public static TestTiming current() {
+        return current.get();
+    }
+
+    public static <T> T time(String phase, Supplier<T> action) {
+        TestTiming timing = current.get();
+        return timing == null ? action.get() : timing.time(phase, action);
+    }
+
+    public static void time(String phase, Runnable action) {
+        time(phase, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public static void record(String phase, long nanos) {
+        TestTiming timing = current.get();
+        if (timing != null) {
+            timing.record(phase, nanos);
+        }
+    }
+
+    /**
+     * Write all finished test breakdowns to the timings folder of the output folder (JSON and Prometheus text format).
+     */
+    public static void writeReports() {
+        List<TestTiming> timings = new ArrayList<>(finished);
+        try {
+            Files.createDirectories(OUTPUT_DIR);
+            writeJson(timings, OUTPUT_DIR.resolve(JSON_FILE));
+            Files.writeString(OUTPUT_DIR.resolve(PROMETHEUS_FILE), toPrometheus(timings), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            LOG.warn("Failed to write test timing reports to " + OUTPUT_DIR, e);
+        }
+    }
+
+    /**
+     * Build an HTML table summarizing total time per phase across all finished tests, slowest first.
+     */
+    public static String toHtmlSummary() {
+        Map<String, long[]> totals = new TreeMap<>();   // phase -> {calls, nanos}
+        for (TestTiming timing : finished) {
+            timing.phases.forEach((phase, stat) -> {
+                long[] total = totals.computeIfAbsent(phase, p -> new long[2]);
+                total[0] += stat.calls.sum();
+                total[1] += stat.nanos.sum();
+            });
+        }
+
+        StringBuilder html = new StringBuilder("<table class='table table-sm'>")
+                .append("<thead><tr><th>Phase</th><th>Calls</th><th>Total (s)</th><th>Avg per test (s)</th></tr></thead><tbody>");
+        int testCount = Math.max(1, finished.size());
+        totals.entrySet().stream()
+                .sorted((a, b) -> Long.compare(b.getValue()[1], a.getValue()[1]))
+                .forEach(entry -> html.append("<tr><td>").append(entry.getKey())
+                        .append("</td><td>").append(entry.getValue()[0])
+                        .append("</td><td>").append(seconds(entry.getValue()[1]))
+                        .append("</td><td>").append(seconds(entry.getValue()[1] / testCount))
+                        .append("</td></tr>"));
+        return html.append("</tbody></table>").toString();
+    }
+
+    // ---- Private Helpers ----
+    private static void writeJson(List<TestTiming> timings, Path file) throws IOException {
+        List<Map<String, Object>> tests = new ArrayList<>();
+        for (TestTiming timing : timings) {
+            Map<String, Object> phases = new LinkedHashMap<>();
+            timing.phases.forEach((phase, stat) -> phases.put(phase, Map.of(
+                    "calls", stat.calls.sum(),
+                    "totalMs", stat.nanos.sum() / 1_000_000)));
+
+            Map<String, Object> test = new LinkedHashMap<>();
+            test.put("run", timing.runId);
+            test.put("test", timing.testName);
+            test.put("status", timing.status);
+            test.put("totalMs", timing.totalNanos / 1_000_000);
+            test.put("phases", phases);
+            tests.add(test);
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), tests);
+    }
+
+    private static String toPrometheus(List<TestTiming> timings) {
+        StringBuilder out = new StringBuilder();
+        out.append("# HELP test_duration_seconds Wall-clock time of a test from setup to teardown.\n")
+                .append("# TYPE test_duration_seconds gauge\n");
+        for (TestTiming timing : timings) {
+            out.append("test_duration_seconds{").append(labels(timing)).append(",status=\"")
+                    .append(timing.status).append("\"} ").append(seconds(timing.totalNanos)).append('\n');
+        }
+
+        out.append("# HELP test_phase_seconds Time spent per test phase.\n")
+                .append("# TYPE test_phase_seconds gauge\n");
+        for (TestTiming timing : timings) {
+            timing.phases.forEach((phase, stat) -> out.append("test_phase_seconds{").append(labels(timing))
+                    .append(",phase=\"").append(phase).append("\"} ").append(seconds(stat.nanos.sum())).append('\n'));
+        }
+
+        out.append("# HELP test_phase_calls Number of timed calls per test phase.\n")
+                .append("# TYPE test_phase_calls gauge\n");
+        for (TestTiming timing : timings) {
+            timing.phases.forEach((phase, stat) -> out.append("test_phase_calls{").append(labels(timing))
+                    .append(",phase=\"").append(phase).append("\"} ").append(stat.calls.sum()).append('\n'));
+        }
+        return out.toString();
+    }
+
+    private static String labels(TestTiming timing) {
+        String escapedName = timing.testName.replace("\\", "\\\\").replace("\"", "\\\"");
+        return "test=\"" + escapedName + "\",run=\"" + timing.runId + "\"";
+    }
+
+    private static String seconds(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000_000.0);
+    }
+
+    /**
+     * Timings of one test run. Thread-safe, so setup tasks on other threads can record into it.
+     */
+    public static class TestTiming {
+        private final long runId;
+        private final String testName;
+        private final long startNanos = System.nanoTime();
+        private final Map<String, PhaseStat> phases = new ConcurrentHashMap<>();
+        private volatile long totalNanos;
+        private volatile String status;
+
+        private TestTiming(long runId, String testName) {
+            this.runId = runId;
+            this.testName = testName;
+        }
+
+        public <T> T time(String phase, Supplier<T> action) {
+            long start = System.nanoTime();
+            try {
+                return action.get();
+            } finally {
+                record(phase, System.nanoTime() - start);
+            }
+        }
+
+        public void record(String phase, long nanos) {
+            PhaseStat stat = phases.computeIfAbsent(phase, p -> new PhaseStat());
+            stat.calls.increment();
+            stat.nanos.add(nanos);
+        }
+
+        private void finish(String status) {
+            this.status = status;
+            this.totalNanos = System.nanoTime() - startNanos;
+        }
+
+        private String formatPhases() {
+            StringBuilder text = new StringBuilder("total=" + seconds(totalNanos) + "s");
+            new TreeMap<>(phases).forEach((phase, stat) ->
+                    text.append(", ").append(phase).append('=').append(seconds(stat.nanos.sum())).append('s'));
+            return text.toString();
+        }
+    }
+
+    private static class PhaseStat {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+    }
+}
@@ -0,0 +1,299 @@
+package runner;
+
+import config.ConfigManager;
+import listeners.ClassDurationHistory;
+import listeners.ShardSuiteFilter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.xml.Parser;
+import org.testng.xml.XmlSuite;
+import reports.ReportMerger;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a suite XML on a pool of worker JVMs pulling test classes from a shared queue - unlike static sharding,
+ * a worker that finishes early just takes the next class, so one slow class can't hold up a whole shard.
+ *
+ * <p>The coordinator queues the suite's classes longest-first (ClassDurationHistory), serves them over a loopback
+ * socket and starts the workers (TestWorker) with the same classpath and -D overrides. Line protocol:
+ * <pre>
+ *     worker: NEXT &lt;workerId&gt;                                  coordinator: CLASS &lt;className&gt; | DONE
+ *     worker: RESULT &lt;className&gt; &lt;passed&gt; &lt;failed&gt; &lt;skipped&gt; &lt;millis&gt;
+ * </pre>
+ * Each connection has at most one class in flight; a worker opens one connection per class it runs at a time.
+ * NEXT blocks while the queue is empty but classes are still running, since a running class may come back.
+ * When a worker dies (connection closed without RESULT), its classes are put back at the head of the queue,
+ * up to coordinator.maxAttempts times in total.
+ * Workers still running coordinator.workerTimeoutMinutes after the start are killed; the classes they were running
+ * are reported as failed and not handed out again.
+ *
+ * <p>Each worker writes its result bundle to test-output/worker-N; once all workers exit, the bundles are merged
+ * into test-output/coordinated/ExtentReport.html and the measured class durations are added to the history.
+ *
+ * <p>Usage (see the coordinate Gradle task):
+ * <pre>
+ *     TestCoordinator &lt;suiteXml&gt; [workers]     - default workers: coordinator.workers
+ * </pre>
+ */
+public class TestCoordinator {
+
+    private static final Logger LOG = LogManager.getLogger(TestCoordinator.class);
+
+    static final String NEXT = "NEXT";
+    static final String CLASS = "CLASS";
+    static final String RESULT = "RESULT";
+    static final String DONE = "DONE";
+
+    private static final Path REPORT_DIR = Paths.get("test-output", "coordinated");
+    // Time for connection handlers to notice workers that exited with a class in flight
+    private static final long DISCONNECT_GRACE_MILLIS = 5_000;
+
+    private final int maxAttempts;
+    // Guarded by this
+    private final Deque<String> queue = new ArrayDeque<>();
+    private final Map<String, Integer> attempts = new HashMap<>();
+    private final Set<String> abandoned = new TreeSet<>();
+    private final Set<String> killedWorkers = new TreeSet<>();
+    private final Set<String> timedOut = new TreeSet<>();
+    private int inFlight;
+    private int passed;
+    private int failed;
+    private int skipped;
+    // Class name -> measured seconds
+    private final Map<String, Double> measuredSeconds = new ConcurrentHashMap<>();
+
+    TestCoordinator(List<String> classNames, int maxAttempts) {
+        this.queue.addAll(classNames);
+        this.maxAttempts = maxAttempts;
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            throw new IllegalArgumentException("Usage: TestCoordinator <suiteXml> [workers]");
+        }
+        String suiteFile = args[0];
+        int workers = args.length > 1 ? Integer.parseInt(args[1]) : ConfigManager.getCoordinatorWorkers();
+
+        List<String> classNames = loadClassesLongestFirst(suiteFile);
+        TestCoordinator coordinator = new TestCoordinator(classNames, ConfigManager.getCoordinatorMaxAttempts());
+        LOG.info("Coordinating " + classNames.size() + " test classes of " + suiteFile + " on " + workers + " workers");
+
+        boolean success = coordinator.run(suiteFile, workers);
+        System.exit(success ? 0 : 1);
+    }
+
+    // ---- Private Helpers ----
+    private static List<String> loadClassesLongestFirst(String suiteFile) throws IOException {
+        Set<String> classNames = new LinkedHashSet<>();
+        for (XmlSuite suite : new Parser(suiteFile).parseToList()) {
+            classNames.addAll(ShardSuiteFilter.resolveClasses(suite));
+        }
+
+        Map<String, Double> history = ClassDurationHistory.read();
+        Map<String, Double> estimates = new HashMap<>();
+        classNames.forEach(className -> estimates.put(className,
+                history.getOrDefault(className, ClassDurationHistory.estimate(className, -1))));
+
+        List<String> ordered = new ArrayList<>(classNames);
+        ordered.sort(Comparator.comparingDouble((String className) -> estimates.get(className)).reversed()
+                .thenComparing(Comparator.naturalOrder()));
+        return ordered;
+    }
+
+    private boolean run(String suiteFile, int workers) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        List<Process> processes = new ArrayList<>();
+        List<Path> bundles = new ArrayList<>();
+
+        // Default backlog - workers open one connection per class they run at a time
+        try (ServerSocket server = new ServerSocket(0, 0, InetAddress.getLoopbackAddress())) {
+            Thread.ofVirtual().name("coordinator-accept").start(() -> acceptWorkers(server));
+
+            for (int workerId = 1; workerId <= workers; workerId++) {
+                processes.add(startWorker(workerId, server.getLocalPort(), suiteFile));
+                bundles.add(Paths.get("test-output", "worker-" + workerId));
+            }
+            long deadline = start + TimeUnit.MINUTES.toNanos(ConfigManager.getCoordinatorWorkerTimeoutMinutes());
+            for (int i = 0; i < processes.size(); i++) {
+                Process process = processes.get(i);
+                if (!process.waitFor(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                    String workerId = String.valueOf(i + 1);
+                    LOG.error("Worker " + workerId + " still running after " + ConfigManager.getCoordinatorWorkerTimeoutMinutes()
+                            + " minutes - killing it");
+                    markKilled(workerId);
+                    process.destroyForcibly().waitFor();
+                }
+            }
+            awaitNoneInFlight();
+        }
+
+        synchronized (this) {
+            abandoned.addAll(queue);
+            String summary = String.format(Locale.ROOT, "%d passed, %d failed, %d skipped in %.1fs",
+                    passed, failed, skipped, (System.nanoTime() - start) / 1_000_000_000.0);
+            LOG.info("Coordinated run finished: " + summary);
+            if (!abandoned.isEmpty()) {
+                LOG.error("Test classes not run (workers died or exited early): " + abandoned);
+            }
+            if (!timedOut.isEmpty()) {
+                LOG.error("Test classes failed - their worker timed out: " + timedOut);
+            }
+        }
+
+        ClassDurationHistory.update(measuredSeconds);
+        ReportMerger.merge(bundles, REPORT_DIR);
+
+        synchronized (this) {
+            return failed == 0 && abandoned.isEmpty() && timedOut.isEmpty();
+        }
+    }
+
+    private Process startWorker(int workerId, int port, String suiteFile) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        ConfigManager.getSystemPropertyOverrides().forEach((key, value) -> command.add("-D" + key + "=" + value));
+        command.add("-D" + TestWorker.WORKER_ID_PROPERTY + "=" + workerId);
+        command.add("-D" + TestWorker.PORT_PROPERTY + "=" + port);
+        command.add("-D" + TestWorker.SUITE_FILE_PROPERTY + "=" + suiteFile);
+        command.add(TestWorker.class.getName());
+
+        return new ProcessBuilder(command).inheritIO().start();
+    }
+
+    private void acceptWorkers(ServerSocket server) {
+        while (!server.isClosed()) {
+            try {
+                Socket socket = server.accept();
+                Thread.ofVirtual().name("coordinator-worker").start(() -> serve(socket));
+            } catch (IOException e) {
+                // Server closed at the end of the run
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        String workerId = "?";
+        String runningClass = null;
+        try (socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                String[] parts = line.trim().split(" ");
+                switch (parts[0]) {
+                    case NEXT -> {
+                        workerId = parts.length > 1 ? parts[1] : workerId;
+                        runningClass = takeNext();
+                        if (runningClass == null) {
+                            out.println(DONE);
+                            return;
+                        }
+                        out.println(CLASS + " " + runningClass);
+                    }
+                    case RESULT -> {
+                        complete(workerId, parts);
+                        runningClass = null;
+                    }
+                    default -> LOG.warn("Unknown message from worker " + workerId + ": " + line);
+                }
+            }
+        } catch (IOException e) {
+            LOG.warn("Lost connection to worker " + workerId + ": " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (runningClass != null) {
+                requeue(workerId, runningClass);
+            }
+        }
+    }
+
+    // Next class to run, or null when the queue is empty and nothing running can come back
+    synchronized String takeNext() throws InterruptedException {
+        while (queue.isEmpty() && inFlight > 0) {
+            wait();
+        }
+        String className = queue.pollFirst();
+        if (className != null) {
+            attempts.merge(className, 1, Integer::sum);
+            inFlight++;
+        }
+        return className;
+    }
+
+    // RESULT <className> <passed> <failed> <skipped> <millis>
+    synchronized void complete(String workerId, String[] parts) {
+        String className = parts[1];
+        passed += Integer.parseInt(parts[2]);
+        failed += Integer.parseInt(parts[3]);
+        skipped += Integer.parseInt(parts[4]);
+        measuredSeconds.put(className, Long.parseLong(parts[5]) / 1000.0);
+        inFlight--;
+        notifyAll();
+        LOG.info("Worker " + workerId + " finished " + className + " (" + parts[2] + " passed, " + parts[3]
+                + " failed, " + parts[4] + " skipped) - " + queue.size() + " queued, " + inFlight + " running");
+    }
+
+    synchronized void requeue(String workerId, String className) {
+        inFlight--;
+        if (killedWorkers.contains(workerId.split("\\.")[0])) {
+            LOG.error("Worker " + workerId + " timed out while running " + className + " - reported as failed");
+            timedOut.add(className);
+        } else if (attempts.getOrDefault(className, 0) < maxAttempts) {
+            LOG.warn("Worker " + workerId + " died while running " + className + " - re-queued");
+            queue.addFirst(className);
+        } else {
+            LOG.error("Worker " + workerId + " died while running " + className + " - giving up after "
+                    + maxAttempts + " attempts");
+            abandoned.add(className);
+        }
+        notifyAll();
+    }
+
+    // Classes given up on after coordinator.maxAttempts attempts
+    synchronized Set<String> getAbandoned() {
+        return new TreeSet<>(abandoned);
+    }
+
+    // Worker killed on timeout - classes its slots were running fail instead of going back to the queue
+    synchronized void markKilled(String workerId) {
+        killedWorkers.add(workerId);
+    }
+
+    // Classes that were running on a worker killed on timeout
+    synchronized Set<String> getTimedOut() {
+        return new TreeSet<>(timedOut);
+    }
+
+    private synchronized void awaitNoneInFlight() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + DISCONNECT_GRACE_MILLIS;
+        while (inFlight > 0 && System.currentTimeMillis() < deadline) {
+            wait(Math.max(1, deadline - System.currentTimeMillis()));
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package runner;
+
+import listeners.DurationAwareScheduler;
+import listeners.ShardSuiteFilter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.TestListenerAdapter;
+import org.testng.TestNG;
+import org.testng.xml.Parser;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Worker JVM of a coordinated run (see TestCoordinator): pulls test classes from the coordinator, runs them with
+ * TestNG in this JVM and sends the result counts back. Each class runs with the settings of its &lt;test&gt; in
+ * the suite XML (parameters, groups) and the suite's listeners.
+ *
+ * <p>A worker keeps up to the suite's thread-count classes in flight: it runs one pull loop per thread, each on its
+ * own coordinator connection, so a worker is as busy as a parallel="classes" run of the same suite.
+ * If the JVM dies, every connection closes and the coordinator re-queues all of its running classes.
+ *
+ * <p>All classes of a worker run in one JVM, so the browser pool, user pool and report stay warm between classes.
+ * BaseTest checks {@link #isActive()}: its suite setup runs once, before any class starts its tests, and its suite
+ * teardown (pool shutdown, report flush) runs once when the coordinator has no more classes.
+ *
+ * <p>Started by the coordinator with -Dworker.id and -Dcoordinator.port - not meant to be run by hand.
+ */
+public class TestWorker {
+
+    private static final Logger LOG = LogManager.getLogger(TestWorker.class);
+
+    static final String WORKER_ID_PROPERTY = "worker.id";
+    static final String PORT_PROPERTY = "coordinator.port";
+    static final String SUITE_FILE_PROPERTY = "coordinator.suite";
+
+    private static final AtomicReference<Runnable> suiteFinisher = new AtomicReference<>();
+    // Guarded by TestWorker.class
+    private static boolean suiteSetUp;
+
+    private TestWorker() {
+        // utility class, no instantiation
+    }
+
+    public static void main(String[] args) throws IOException {
+        String workerId = System.getProperty(WORKER_ID_PROPERTY);
+        int port = Integer.parseInt(System.getProperty(PORT_PROPERTY));
+        List<XmlSuite> suites = new Parser(System.getProperty(SUITE_FILE_PROPERTY)).parseToList();
+        Map<String, XmlTest> testsByClass = loadTestsByClass(suites);
+        int slots = getSlotCount(suites);
+        LOG.info("Worker " + workerId + " runs up to " + slots + " classes at a time");
+
+        boolean failed = false;
+        ExecutorService slotThreads = Executors.newFixedThreadPool(slots);
+        try {
+            List<Future<Boolean>> slotResults = new ArrayList<>();
+            for (int slot = 1; slot <= slots; slot++) {
+                String slotId = workerId + "." + slot;
+                slotResults.add(slotThreads.submit(() -> runSlot(slotId, port, testsByClass)));
+            }
+            for (Future<Boolean> slotResult : slotResults) {
+                try {
+                    failed |= slotResult.get();
+                } catch (ExecutionException e) {
+                    LOG.error("Worker " + workerId + " pull loop failed", e.getCause());
+                    failed = true;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failed = true;
+        } finally {
+            slotThreads.shutdownNow();
+            Runnable finisher = suiteFinisher.get();
+            if (finisher != null) {
+                // A failing teardown must not skip System.exit below - the coordinator waits for this JVM
+                try {
+                    finisher.run();
+                } catch (RuntimeException | Error e) {
+                    LOG.error("Worker " + workerId + " suite teardown failed", e);
+                    failed = true;
+                }
+            }
+        }
+        // Pools may keep non-daemon threads alive - the coordinator waits for this JVM to exit
+        System.exit(failed ? 1 : 0);
+    }
+
+    /**
+     * Check whether this JVM is a coordinator worker.
+     */
+    public static boolean isActive() {
+        return System.getProperty(WORKER_ID_PROPERTY) != null;
+    }
+
+    /**
+     * Run the suite setup of this worker once. Classes starting meanwhile wait until it's done,
+     * so no test runs before the shared setup. A failed setup is retried by the next class.
+     *
+     * @param setup Suite setup (every class is its own TestNG suite run)
+     */
+    public static synchronized void setUpSuiteOnce(Runnable setup) {
+        if (!suiteSetUp) {
+            setup.run();
+            suiteSetUp = true;
+        }
+    }
+
+    /**
+     * Register the suite teardown, run once after the last class of this worker. Later registrations are ignored.
+     *
+     * @param finisher Suite teardown
+     */
+    public static void finishSuiteOnExit(Runnable finisher) {
+        suiteFinisher.compareAndSet(null, finisher);
+    }
+
+    // ---- Private Helpers ----
+    /**
+     * Pull loop of one slot: ask for the next class, run it, report its result, until the coordinator is done.
+     *
+     * @return true if a test of a class run by this slot failed
+     */
+    private static boolean runSlot(String slotId, int port, Map<String, XmlTest> testsByClass) throws IOException {
+        boolean failed = false;
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8)) {
+            while (true) {
+                out.println(TestCoordinator.NEXT + " " + slotId);
+                String reply = in.readLine();
+                if (reply == null || reply.equals(TestCoordinator.DONE)) {
+                    return failed;
+                }
+
+                String className = reply.substring(TestCoordinator.CLASS.length() + 1);
+                LOG.info("Worker " + slotId + " runs " + className);
+                long start = System.nanoTime();
+                TestListenerAdapter results = runClass(testsByClass.get(className), className);
+                long millis = (System.nanoTime() - start) / 1_000_000;
+
+                failed |= !results.getFailedTests().isEmpty();
+                out.println(String.join(" ", TestCoordinator.RESULT, className,
+                        String.valueOf(results.getPassedTests().size()),
+                        String.valueOf(results.getFailedTests().size()),
+                        String.valueOf(results.getSkippedTests().size()),
+                        String.valueOf(millis)));
+            }
+        }
+    }
+
+    // Classes in flight per worker: the largest thread count of the suite's parallel <test>s, 1 if none is parallel
+    private static int getSlotCount(List<XmlSuite> suites) {
+        int slots = 1;
+        for (XmlSuite suite : suites) {
+            for (XmlTest test : suite.getTests()) {
+                XmlSuite.ParallelMode parallel = test.getParallel();
+                if (parallel != null && parallel != XmlSuite.ParallelMode.NONE) {
+                    slots = Math.max(slots, test.getThreadCount());
+                }
+            }
+        }
+        return slots;
+    }
+
+    // Class name -> <test> of the suite XML it belongs to
+    private static Map<String, XmlTest> loadTestsByClass(List<XmlSuite> suites) {
+        Map<String, XmlTest> testsByClass = new HashMap<>();
+        for (XmlSuite suite : suites) {
+            ShardSuiteFilter.resolveClasses(suite);
+            suite.getTests().forEach(test -> test.getXmlClasses()
+                    .forEach(xmlClass -> testsByClass.putIfAbsent(xmlClass.getName(), test)));
+        }
+        return testsByClass;
+    }
+
+    // Run one class as its own suite, with a copy of its <test> settings
+    private static TestListenerAdapter runClass(XmlTest sourceTest, String className) {
+        XmlSuite sourceSuite = sourceTest.getSuite();
+        XmlSuite suite = new XmlSuite();
+        suite.setName(sourceSuite.getName());
+        suite.setParameters(sourceSuite.getParameters());
+        suite.setParallel(sourceSuite.getParallel());
+        suite.setThreadCount(sourceSuite.getThreadCount());
+        // Scheduling and sharding are done by the coordinator
+        sourceSuite.getListeners().stream()
+                .filter(listener -> !listener.equals(DurationAwareScheduler.class.getName())
+                        && !listener.equals(ShardSuiteFilter.class.getName()))
+                .forEach(suite::addListener);
+
+        XmlTest test = new XmlTest(suite);
+        test.setName(sourceTest.getName());
+        test.setParameters(sourceTest.getLocalParameters());
+        test.setIncludedGroups(sourceTest.getIncludedGroups());
+        test.setExcludedGroups(sourceTest.getExcludedGroups());
+        test.setParallel(sourceTest.getParallel());
+        test.setThreadCount(sourceTest.getThreadCount());
+        test.setXmlClasses(List.of(new XmlClass(className)));
+
+        TestListenerAdapter results = new TestListenerAdapter();
+        TestNG testng = new TestNG();
+        testng.setUseDefaultListeners(false);
+        testng.setXmlSuites(List.of(suite));
+        testng.addListener(results);
+        testng.run();
+        return results;
+    }
+}
@@ -0,0 +1,102 @@
+package utils;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Bounded fan-out helper for independent, I/O bound calls (e.g. API lookups per movie or per showtime).
+ * Runs each call on a virtual thread while keeping at most {@code concurrency} calls in flight,
+ * and stops submitting new work once enough accepted results have been collected.
+ */
+public final class ConcurrentFetcher {
+
+    private ConcurrentFetcher() {}
+
+    /**
+     * Fetch a result for every input concurrently.
+     *
+     * @param inputs      Inputs to fetch results for
+     * @param fetcher     Call producing a result for one input (must be thread-safe)
+     * @param concurrency Maximum number of calls in flight
+     * @return Fetched results, in completion order
+     */
+    public static <T, R> List<R> fetchAll(List<T> inputs, Function<T, R> fetcher, int concurrency) {
+        return fetchUntil(inputs, fetcher, result -> true, Integer.MAX_VALUE, concurrency);
+    }
+
+    /**
+     * Fetch results concurrently until {@code limit} of them satisfy {@code accept}.
+     * Inputs are submitted in list order; once the limit is reached no further inputs are submitted
+     * and calls still in flight are cancelled.
+     *
+     * @param inputs      Inputs to fetch results for
+     * @param fetcher     Call producing a result for one input (must be thread-safe)
+     * @param accept      Criteria a fetched result must match to be collected
+     * @param limit       Number of accepted results to stop at
+     * @param concurrency Maximum number of calls in flight
+     * @return Accepted results (at most {@code limit}), in completion order
+     */
+    public static <T, R> List<R> fetchUntil(List<T> inputs, Function<T, R> fetcher, Predicate<R> accept,
+                                            int limit, int concurrency) {
+        List<R> accepted = new ArrayList<>();
+        if (inputs.isEmpty() || limit <= 0) {
+            return accepted;
+        }
+
+        int maxInFlight = Math.max(1, concurrency);
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        CompletionService<R> completionService = new ExecutorCompletionService<>(executor);
+        Iterator<T> pending = inputs.iterator();
+        int inFlight = 0;
+
+        try {
+            // Fill the window, then submit one new call for every call that completes
+            while (inFlight < maxInFlight && pending.hasNext()) {
+                T input = pending.next();
+                completionService.submit(() -> fetcher.apply(input));
+                inFlight++;
+            }
+
+            while (inFlight > 0 && accepted.size() < limit) {
+                Future<R> completed = completionService.take();
+                inFlight--;
+
+                R result = completed.get();
+                if (accept.test(result)) {
+                    accepted.add(result);
+                }
+
+                if (accepted.size() < limit && pending.hasNext()) {
+                    T input = pending.next();
+                    completionService.submit(() -> fetcher.apply(input));
+                    inFlight++;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for concurrent calls", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Concurrent call failed", cause);
+        } finally {
+            // Cancel in-flight calls that are no longer needed (results are discarded)
+            executor.shutdownNow();
+        }
+        return accepted;
+    }
+}
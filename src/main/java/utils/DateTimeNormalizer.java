@@ -1,13 +1,21 @@
 package utils;
 
 import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utility class to normalize datetime strings from different sources (UI and API)
  * into a standard format for comparison.
+ *
+ * <p>Known formats are recognized from the shape of the string (separator positions) and normalized directly,
+ * without trying formatters one by one. Anything the fast path can't vouch for (other shapes, out-of-range values
+ * the formatters resolve, e.g. 31/04 to 30/04) goes through the formatters, with the result memoized.
  */
 public class DateTimeNormalizer {
 
@@ -26,6 +34,10 @@ public class DateTimeNormalizer {
             DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm")     // Joint from API date and time fields
     );
 
+    // Inputs normalized through KNOWN_FORMATS -> result; cleared when full
+    private static final int MAX_CACHED_INPUTS = 1024;
+    private static final Map<String, String> formatterResults = new ConcurrentHashMap<>();
+
     /**
      * Normalize datetime string to standard format: dd/MM/yyyy HH:mm
      * Automatically detects the input format from known patterns.
@@ -41,17 +53,25 @@ public class DateTimeNormalizer {
 
         String cleanedDatetime = datetime.trim();
 
-        // Try each known format
-        for (DateTimeFormatter formatter : KNOWN_FORMATS) {
-            try {
-                LocalDateTime parsedDateTime = LocalDateTime.parse(cleanedDatetime, formatter);
-                return parsedDateTime.format(STANDARD_FORMAT);
-            } catch (DateTimeParseException e) {
-                // Continue to next format in INPUT_FORMATS list
-            }
+        String normalized = normalizeKnownShape(cleanedDatetime);
+        if (normalized != null) {
+            return normalized;
         }
 
-        throw new IllegalArgumentException("Unable to parse datetime: " + datetime + ". Check supported formats.");
+        normalized = formatterResults.get(cleanedDatetime);
+        if (normalized != null) {
+            return normalized;
+        }
+
+        normalized = parseWithKnownFormats(cleanedDatetime);
+        if (normalized == null) {
+            throw new IllegalArgumentException("Unable to parse datetime: " + datetime + ". Check supported formats.");
+        }
+        if (formatterResults.size() >= MAX_CACHED_INPUTS) {
+            formatterResults.clear();
+        }
+        formatterResults.put(cleanedDatetime, normalized);
+        return normalized;
     }
 
     public static String normalize(LocalDateTime datetime) {
@@ -61,4 +81,118 @@ public class DateTimeNormalizer {
         return datetime.format(STANDARD_FORMAT);
     }
 
+    // ---- Private Helpers ----
+
+    /**
+     * Normalize a string in one of the known formats by copying its digits, without parsing.
+     *
+     * @return dd/MM/yyyy HH:mm, or null if the shape is unknown or a value is outside its plain range
+     * (left to the formatters, which reject or resolve it)
+     */
+    private static String normalizeKnownShape(String datetime) {
+        int length = datetime.length();
+        if (length < 16) {
+            return null;
+        }
+        if (datetime.charAt(4) == '-') {
+            return normalizeIsoShape(datetime);
+        }
+
+        // dd?MM?yyyy<separator>HH:mm, ? being / or -
+        char dateSeparator = datetime.charAt(2);
+        if ((dateSeparator != '/' && dateSeparator != '-') || datetime.charAt(5) != dateSeparator
+                || !isTimeSeparator(datetime, dateSeparator, 10, length - 5)) {
+            return null;
+        }
+        return normalizeFields(datetime, 0, 3, 6, length - 5);
+    }
+
+    // yyyy-MM-ddTHH:mm[:ss[.fffffffff]]
+    private static String normalizeIsoShape(String datetime) {
+        int length = datetime.length();
+        if (datetime.charAt(7) != '-' || datetime.charAt(10) != 'T') {
+            return null;
+        }
+        if (length > 16) {
+            if (length < 19 || datetime.charAt(16) != ':' || readNumber(datetime, 17, 2, 59) < 0) {
+                return null;
+            }
+            if (length > 19 && (length < 21 || length > 29 || datetime.charAt(19) != '.'
+                    || !isDigits(datetime, 20, length))) {
+                return null;
+            }
+        }
+        return normalizeFields(datetime, 8, 5, 0, 11);
+    }
+
+    // Text between the year and the time: " ", " ~ ", " -" (dd/MM/yyyy) or " | " (dd-MM-yyyy)
+    private static boolean isTimeSeparator(String datetime, char dateSeparator, int start, int end) {
+        return switch (end - start) {
+            case 1 -> datetime.charAt(start) == ' ';
+            case 2 -> dateSeparator == '/' && datetime.charAt(start) == ' ' && datetime.charAt(start + 1) == '-';
+            case 3 -> datetime.charAt(start) == ' ' && datetime.charAt(start + 2) == ' '
+                    && (datetime.charAt(start + 1) == '~' || (dateSeparator == '-' && datetime.charAt(start + 1) == '|'));
+            default -> false;
+        };
+    }
+
+    // Validate day/month/year at the given offsets and HH:mm at timeStart, then copy them as dd/MM/yyyy HH:mm
+    private static String normalizeFields(String datetime, int dayStart, int monthStart, int yearStart, int timeStart) {
+        int year = readNumber(datetime, yearStart, 4, 9999);
+        int month = readNumber(datetime, monthStart, 2, 12);
+        int day = readNumber(datetime, dayStart, 2, 31);
+        if (year < 1 || month < 1 || day < 1 || day > Month.of(month).length(Year.isLeap(year))
+                || readNumber(datetime, timeStart, 2, 23) < 0 || datetime.charAt(timeStart + 2) != ':'
+                || readNumber(datetime, timeStart + 3, 2, 59) < 0) {
+            return null;
+        }
+
+        char[] normalized = new char[16];
+        datetime.getChars(dayStart, dayStart + 2, normalized, 0);
+        normalized[2] = '/';
+        datetime.getChars(monthStart, monthStart + 2, normalized, 3);
+        normalized[5] = '/';
+        datetime.getChars(yearStart, yearStart + 4, normalized, 6);
+        normalized[10] = ' ';
+        datetime.getChars(timeStart, timeStart + 5, normalized, 11);
+        return new String(normalized);
+    }
+
+    // Fixed-width ASCII number, or -1 if not all digits or greater than max
+    private static int readNumber(String text, int start, int width, int max) {
+        if (!isDigits(text, start, start + width)) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = start; i < start + width; i++) {
+            value = value * 10 + (text.charAt(i) - '0');
+        }
+        return value <= max ? value : -1;
+    }
+
+    private static boolean isDigits(String text, int start, int end) {
+        if (end > text.length()) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Try each known format; null if none matches. Also the reference the fast path is tested against
+    static String parseWithKnownFormats(String datetime) {
+        for (DateTimeFormatter formatter : KNOWN_FORMATS) {
+            try {
+                LocalDateTime parsedDateTime = LocalDateTime.parse(datetime, formatter);
+                return parsedDateTime.format(STANDARD_FORMAT);
+            } catch (DateTimeParseException e) {
+                // Continue to next format in KNOWN_FORMATS list
+            }
+        }
+        return null;
+    }
 }
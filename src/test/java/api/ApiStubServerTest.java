@@ -0,0 +1,106 @@
+package api;
+
+import com.sun.net.httpserver.HttpServer;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.assertEquals;
+
+public class ApiStubServerTest {
+
+    private final AtomicInteger liveCalls = new AtomicInteger();
+    private HttpServer liveApi;
+    private Path recordingDir;
+
+    @BeforeMethod(alwaysRun = true)
+    public void startLiveApi() throws IOException {
+        recordingDir = Files.createTempDirectory("api-recordings");
+        liveApi = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        liveApi.createContext("/", exchange -> {
+            byte[] body = ("{\"query\":\"" + exchange.getRequestURI().getRawQuery() + "\",\"call\":"
+                    + liveCalls.incrementAndGet() + "}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        liveApi.start();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void stopLiveApi() throws IOException {
+        liveApi.stop(0);
+        try (Stream<Path> files = Files.walk(recordingDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+
+    @Test(groups = "unit")
+    public void replaysRecordedResponseAfterRestartOnSamePort() throws Exception {
+        ApiStubServer recorder = startStub(ApiStubServer.MODE_RECORD, 0);
+        HttpResponse<String> recorded = get(recorder.getBaseUri() + "/api/QuanLyPhim/LayDanhSachPhim?maNhom=GP01&tenPhim=a");
+        int port = recorder.getPort();
+        recorder.stop();
+
+        ApiStubServer replayer = startStub(ApiStubServer.MODE_REPLAY, port);
+        try {
+            HttpResponse<String> replayed = get(replayer.getBaseUri() + "/api/QuanLyPhim/LayDanhSachPhim?tenPhim=a&maNhom=GP01");
+
+            assertEquals(replayer.getPort(), port);
+            assertEquals(replayed.statusCode(), 200);
+            assertEquals(replayed.body(), recorded.body());
+            assertEquals(liveCalls.get(), 1);
+        } finally {
+            replayer.stop();
+        }
+    }
+
+    @Test(groups = "unit")
+    public void replayMissesRequestWithDifferentQuery() throws Exception {
+        ApiStubServer recorder = startStub(ApiStubServer.MODE_RECORD, 0);
+        try {
+            get(recorder.getBaseUri() + "/api/QuanLyPhim/LayDanhSachPhim?maNhom=GP01");
+        } finally {
+            recorder.stop();
+        }
+
+        ApiStubServer replayer = startStub(ApiStubServer.MODE_REPLAY, 0);
+        try {
+            HttpResponse<String> missed = get(replayer.getBaseUri() + "/api/QuanLyPhim/LayDanhSachPhim?maNhom=GP02");
+
+            assertEquals(missed.statusCode(), 404);
+        } finally {
+            replayer.stop();
+        }
+    }
+
+    // ---- Private Helpers ----
+    private ApiStubServer startStub(String mode, int port) throws IOException {
+        String liveBaseUri = "http://" + liveApi.getAddress().getHostString() + ":" + liveApi.getAddress().getPort();
+        return new ApiStubServer(mode, liveBaseUri, recordingDir, 0, port);
+    }
+
+    // New client per request, so no pooled connection outlives a stopped stub
+    private static HttpResponse<String> get(String uri) throws IOException, InterruptedException {
+        try (HttpClient httpClient = HttpClient.newHttpClient()) {
+            return httpClient.send(HttpRequest.newBuilder(URI.create(uri)).GET().build(), HttpResponse.BodyHandlers.ofString());
+        }
+    }
+}
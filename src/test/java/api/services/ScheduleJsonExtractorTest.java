@@ -0,0 +1,86 @@
+package api.services;
+
+import model.api.response.MovieSchedule;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+public class ScheduleJsonExtractorTest {
+
+    private static final String MOVIE_SCHEDULE = """
+            {"maPhim": 1282, "heThongRapChieu": [
+              {"maHeThongRap": "BHDStar", "cumRapChieu": [
+                {"maCumRap": "bhd-star-cineplex-3-2", "lichChieuPhim": [
+                  {"maLichChieu": "44661", "maRap": "451", "ngayChieuGioChieu": "2021-10-17T08:43:00"},
+                  {"maLichChieu": 44662, "maRap": "452", "ngayChieuGioChieu": "2021-10-17T10:43:00"}
+                ]},
+                {"lichChieuPhim": [
+                  {"maLichChieu": "44663", "maRap": "453", "ngayChieuGioChieu": "2021-10-17T12:43:00"}
+                ], "maCumRap": " bhd-star-cineplex-vincom-thao-dien "}
+              ]},
+              {"maHeThongRap": "CGV", "cumRapChieu": [
+                {"maCumRap": "cgv-aeon-binh-tan", "lichChieuPhim": [
+                  {"maLichChieu": "44661", "maRap": "451", "ngayChieuGioChieu": "2021-10-17T08:43:00"}
+                ]}
+              ]}
+            ]}
+            """;
+
+    @Test(groups = "unit")
+    public void showtimeIdsAreInDocumentOrderWithoutDuplicates() {
+        Set<String> showtimeIds = ScheduleJsonExtractor.extractShowtimeIds(bytes(MOVIE_SCHEDULE));
+
+        assertEquals(List.copyOf(showtimeIds), List.of("44661", "44662", "44663"));
+    }
+
+    @Test(groups = "unit")
+    public void branchShowtimesComeFromMatchingBranchOnly() {
+        List<MovieSchedule.ShowtimeDetails> showtimes =
+                ScheduleJsonExtractor.extractBranchShowtimes(bytes(MOVIE_SCHEDULE), "bhd-star-cineplex-3-2");
+
+        assertEquals(showtimes.stream().map(MovieSchedule.ShowtimeDetails::getMaLichChieu).toList(),
+                List.of("44661", "44662"));
+        assertEquals(showtimes.get(1).getNgayChieuGioChieu(), "2021-10-17T10:43:00");
+    }
+
+    @Test(groups = "unit")
+    public void branchShowtimesListedBeforeBranchIdAreKept() {
+        List<MovieSchedule.ShowtimeDetails> showtimes =
+                ScheduleJsonExtractor.extractBranchShowtimes(bytes(MOVIE_SCHEDULE), "bhd-star-cineplex-vincom-thao-dien ");
+
+        assertEquals(showtimes.stream().map(MovieSchedule.ShowtimeDetails::getMaLichChieu).toList(), List.of("44663"));
+    }
+
+    @Test(groups = "unit")
+    public void unknownBranchHasNoShowtimes() {
+        assertTrue(ScheduleJsonExtractor.extractBranchShowtimes(bytes(MOVIE_SCHEDULE), "lotte-cinema").isEmpty());
+    }
+
+    @Test(groups = "unit")
+    public void payloadWithoutSchedulesYieldsNothing() {
+        assertTrue(ScheduleJsonExtractor.extractShowtimeIds(bytes("{\"heThongRapChieu\": []}")).isEmpty());
+        assertTrue(ScheduleJsonExtractor.extractBranchShowtimes(bytes("[]"), "cgv-aeon-binh-tan").isEmpty());
+    }
+
+    @Test(groups = "unit")
+    public void malformedPayloadIsRejected() {
+        byte[] truncated = bytes(MOVIE_SCHEDULE.substring(0, MOVIE_SCHEDULE.indexOf("\"CGV\"")));
+
+        assertThrows(IllegalStateException.class, () -> ScheduleJsonExtractor.extractShowtimeIds(truncated));
+        assertThrows(IllegalStateException.class,
+                () -> ScheduleJsonExtractor.extractBranchShowtimes(truncated, "cgv-aeon-binh-tan"));
+        assertThrows(IllegalStateException.class,
+                () -> ScheduleJsonExtractor.extractShowtimeIds(bytes("{\"maLichChieu\": }")));
+    }
+
+    // ---- Private Helpers ----
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -1,23 +1,39 @@
 package base;
 
+import api.ApiStubServer;
+import api.BrowserResponseCapture;
+import api.services.ShowtimeCatalogCache;
 import config.ConfigManager;
+import drivers.CommandTracer;
+import drivers.DriverManager;
 import drivers.DriverManagerFactory;
-import helpers.providers.TestUserProvider;
+import drivers.DriverPool;
+import drivers.NetworkActivityTracker;
+import drivers.ResourceBlocker;
+import helpers.providers.TestUserPool;
 import model.UserAccount;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.Dimension;
 import org.openqa.selenium.WebDriver;
+import org.testng.ITestContext;
 import org.testng.ITestResult;
 import org.testng.annotations.*;
 import reports.ExtentReportManager;
+import reports.TestTimings;
+import runner.TestWorker;
 
 import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Base class for all test classes.
- * Manages WebDriver lifecycle, ExtentReports, TestNG hooks,
+ * Manages WebDriver lifecycle (pooled sessions via DriverPool), ExtentReports, TestNG hooks,
  * and provides/cleans up test user before/after method.
  * Supports parallel test execution using ThreadLocal.
  */
@@ -31,31 +47,46 @@ public class BaseTest {
     private static ThreadLocal<UserAccount> testUser = new ThreadLocal<>();
 
     private static final String REQUIRE_USER_GROUP = "requiresUser";
+    private static final int TOP_COMMAND_OFFENDERS = 5;
+
+    // Runs browser launch and test user registration side by side in beforeMethod
+    private static final ExecutorService SETUP_EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
 
     @BeforeSuite(alwaysRun = true)
-    public void beforeSuite() {
-        LOG.info("Initialize Extent Report");
-        ExtentReportManager.initializeExtentReports();
+    public void beforeSuite(ITestContext context) {
+        // Coordinator workers run every class as its own suite - set up once per worker JVM
+        if (TestWorker.isActive()) {
+            TestWorker.setUpSuiteOnce(() -> setUpSuite(context));
+            return;
+        }
+        setUpSuite(context);
     }
 
     @BeforeMethod(alwaysRun = true)
     public void beforeMethod(Method method) {
-        initializeWebDriver(resolveBrowser());
-        ExtentReportManager.createTest(method.getName());
-        setupTestUserIfNeeded(method);
+        TestTimings.start(method.getName());
+        TestTimings.time("setup", () -> setUp(method));
     }
 
     @AfterMethod(alwaysRun = true)
     public void afterMethod(ITestResult result) {
-        logTestResult(result);
-        cleanupTestUser();
-        cleanupWebDriver();
+        TestTimings.time("teardown", () -> {
+            finishCommandTrace();
+            logTestResult(result);
+            cleanupTestUser();
+            cleanupWebDriver();
+        });
+        TestTimings.finish(getStatusName(result));
     }
 
     @AfterSuite(alwaysRun = true)
     public void afterSuite() {
-        ExtentReportManager.flushReports();
-        LOG.info("Test Suite completed");
+        // Coordinator workers tear down once, after their last class
+        if (TestWorker.isActive()) {
+            TestWorker.finishSuiteOnExit(this::finishSuite);
+            return;
+        }
+        finishSuite();
     }
 
     protected WebDriver getDriver() {
@@ -67,6 +98,57 @@ public class BaseTest {
     }
 
     // --- Private Helpers ----
+    private void setUpSuite(ITestContext context) {
+        // Keep at most one idle browser session per parallel thread
+        DriverPool.setMaxIdlePerKey(context.getSuite().getXmlSuite().getThreadCount());
+
+        LOG.info("Initialize Extent Report");
+        ExtentReportManager.initializeExtentReports();
+        preloadShowtimeCatalogIfEnabled();
+
+        // Clean up users left over by a previous run and start pre-registering test users
+        TestUserPool.start();
+    }
+
+    private void finishSuite() {
+        TestUserPool.shutdown();
+        DriverPool.shutdown();
+        ApiStubServer.shutdown();
+
+        TestTimings.writeReports();
+        ExtentReportManager.addSummary("Test Timing Summary", TestTimings.toHtmlSummary());
+        if (ResourceBlocker.getBlockedCount() > 0) {
+            ExtentReportManager.addSummary("Resource Blocking", ResourceBlocker.toHtmlSummary());
+        }
+        if (ConfigManager.isCommandTraceEnabled()) {
+            ExtentReportManager.addSummary("WebDriver Command Top Offenders",
+                    String.join("<br>", CommandTracer.getSuiteTopOffenders(TOP_COMMAND_OFFENDERS * 2)));
+        }
+        ExtentReportManager.flushReports();
+        LOG.info("Test Suite completed");
+    }
+
+    private void setUp(Method method) {
+        // Start browser launch and user registration (API) at the same time, then join before the test body
+        String browserName = resolveBrowser();
+        TestTimings.TestTiming timing = TestTimings.current();
+        CompletableFuture<WebDriver> driverTask = CompletableFuture.supplyAsync(
+                () -> timing.time("setup.driver", () -> createWebDriver(browserName)), SETUP_EXECUTOR);
+        CompletableFuture<UserAccount> userTask = isUserRequired(method)
+                ? CompletableFuture.supplyAsync(() -> timing.time("setup.user", TestUserPool::take), SETUP_EXECUTOR)
+                : CompletableFuture.completedFuture(null);
+
+        ExtentReportManager.createTest(method.getName());
+
+        awaitSetup(driverTask, userTask);
+        WebDriver webDriver = driverTask.join();
+        // Opt-in: count and time every WebDriver command of this test
+        driver.set(ConfigManager.isCommandTraceEnabled() ? CommandTracer.trace(webDriver) : webDriver);
+        testUser.set(userTask.join());
+        LOG.info("Thread: " + Thread.currentThread().threadId() +
+                " - [setUp] - WebDriver Instance: " + getDriver());
+    }
+
     private String resolveBrowser() {
         String browser = System.getProperty("browser");
         if (browser == null || browser.isEmpty()) {
@@ -75,41 +157,128 @@ public class BaseTest {
         return (browser == null || browser.isEmpty()) ? "chrome" : browser;
     }
 
-    private void initializeWebDriver(String browserName) {
-        driver.set(DriverManagerFactory.getDriverManager(browserName).createDriver());
-        LOG.info("Thread: " + Thread.currentThread().threadId() +
-                " - [setUp] - WebDriver Instance: " + getDriver());
+    private void preloadShowtimeCatalogIfEnabled() {
+        if (!ConfigManager.isCatalogPreloadEnabled()) {
+            return;
+        }
+        LOG.info("Preload showtime catalog");
+        try {
+            ShowtimeCatalogCache.load();
+        } catch (Exception e) {
+            // Not fatal - the catalog is loaded lazily on first use
+            LOG.warn("Failed to preload showtime catalog", e);
+        }
+    }
+
+    /**
+     * Wait for both setup tasks, failing fast as soon as either one fails.
+     * On failure the other task is abandoned: its result (browser / registered user) is cleaned up
+     * whenever it completes, so nothing leaks from a failed setup.
+     */
+    private void awaitSetup(CompletableFuture<WebDriver> driverTask, CompletableFuture<UserAccount> userTask) {
+        CompletableFuture<Void> setup = new CompletableFuture<>();
+        CompletableFuture.allOf(driverTask, userTask).thenRun(() -> setup.complete(null));
+        driverTask.exceptionally(e -> {
+            setup.completeExceptionally(e);
+            return null;
+        });
+        userTask.exceptionally(e -> {
+            setup.completeExceptionally(e);
+            return null;
+        });
+
+        try {
+            setup.join();
+        } catch (CompletionException e) {
+            LOG.error("Test setup failed - discarding browser session and test user", e.getCause());
+            driverTask.thenAccept(this::disposeWebDriver);
+            userTask.thenAccept(user -> {
+                if (user != null) {
+                    TestUserPool.release(user);
+                }
+            });
+
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private WebDriver createWebDriver(String browserName) {
+        DriverManager driverManager = DriverManagerFactory.getDriverManager(browserName);
+        WebDriver webDriver = ConfigManager.isDriverPoolEnabled()
+                ? DriverPool.acquire(driverManager)
+                : driverManager.createDriver();
+        // Track XHR / fetch calls from the first page load on (no-op for pooled sessions already tracked)
+        NetworkActivityTracker.attach(webDriver);
+        // Capture API responses of this test only - pooled sessions still hold the previous test's
+        BrowserResponseCapture.forDriver(webDriver).clear();
+        return webDriver;
+    }
+
+    /**
+     * Report the test's WebDriver command count and top offenders (the budget is enforced by CommandBudgetListener).
+     * Swaps the traced driver for the original one, so teardown commands are not counted
+     * and the original session goes back to the pool.
+     */
+    private void finishCommandTrace() {
+        CommandTracer.Trace trace = CommandTracer.finish(getDriver());
+        if (trace == null) {
+            return;
+        }
+        driver.set(trace.getOriginalDriver());
+
+        String summary = "WebDriver commands: " + trace.getCommandCount() + " (" + trace.getCommandMillis() + " ms)";
+        List<String> topOffenders = trace.getTopOffenders(TOP_COMMAND_OFFENDERS);
+        LOG.info(summary + " - top: " + topOffenders);
+        ExtentReportManager.info(summary + "<br>" + String.join("<br>", topOffenders));
+    }
+
+    private void disposeWebDriver(WebDriver webDriver) {
+        if (ConfigManager.isDriverPoolEnabled()) {
+            DriverPool.release(webDriver);
+        } else {
+            webDriver.quit();
+        }
     }
 
     private void cleanupWebDriver() {
         WebDriver webDriver = getDriver();
         if (webDriver != null) {
-            webDriver.quit();
+            disposeWebDriver(webDriver);
             driver.remove();
         }
     }
 
-    private void setupTestUserIfNeeded(Method method) {
+    private boolean isUserRequired(Method method) {
         Test testAnnotation = method.getAnnotation(Test.class);
         boolean requiresUser = true;
         if (testAnnotation != null) {
             requiresUser =
                     Arrays.asList(testAnnotation.groups()).contains(REQUIRE_USER_GROUP);
         }
-
-        if (requiresUser) {
-            testUser.set(TestUserProvider.createNewTestUser());
-        }
+        return requiresUser;
     }
 
     private void cleanupTestUser() {
         UserAccount user = testUser.get();
         if (user != null) {
-            TestUserProvider.deleteUser(user);
+            // Deleted in the background - TestUserPool drains pending deletions in afterSuite
+            TestUserPool.release(user);
             testUser.remove();
         }
     }
 
+    private String getStatusName(ITestResult result) {
+        return switch (result.getStatus()) {
+            case ITestResult.SUCCESS -> "PASS";
+            case ITestResult.FAILURE -> "FAIL";
+            case ITestResult.SKIP -> "SKIP";
+            default -> "UNKNOWN";
+        };
+    }
+
     private void logTestResult(ITestResult result) {
         // Log test result to ExtentReport based on test status
         if (result.getStatus() == ITestResult.FAILURE) {
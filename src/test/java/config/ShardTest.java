@@ -0,0 +1,38 @@
+package config;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+
+public class ShardTest {
+
+    @Test(groups = "unit")
+    public void parsesIndexAndTotal() {
+        Shard shard = Shard.parse("2/4");
+
+        assertEquals(shard.getIndex(), 2);
+        assertEquals(shard.getTotal(), 4);
+        assertEquals(shard.getName(), "shard-2-of-4");
+        assertEquals(shard.toString(), "2/4");
+    }
+
+    @Test(groups = "unit")
+    public void toleratesSurroundingWhitespace() {
+        Shard shard = Shard.parse(" 1 / 3 ");
+
+        assertEquals(shard.getIndex(), 1);
+        assertEquals(shard.getTotal(), 3);
+    }
+
+    @DataProvider
+    public Object[][] malformedShards() {
+        return new Object[][]{{"0/4"}, {"5/4"}, {"-1/2"}, {"2/0"}, {"2"}, {"2/"}, {"/4"}, {"2/4/6"}, {"a/b"}, {"2-4"}, {""}};
+    }
+
+    @Test(groups = "unit", dataProvider = "malformedShards")
+    public void rejectsMalformedShard(String value) {
+        assertThrows(IllegalArgumentException.class, () -> Shard.parse(value));
+    }
+}
@@ -1,6 +1,9 @@
 package helpers.actions;
 
+import api.services.AuthService;
+import config.ConfigManager;
 import model.UserAccount;
+import model.api.response.LoginResponse;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import pages.CommonPage;
@@ -21,6 +24,31 @@ public class AuthActionHelper {
         login(loginPage, userAccount.getUsername(), userAccount.getPassword());
     }
 
+    /**
+     * Log in without the login form - for tests where login is only a precondition.
+     * Logs in through the login API (session cached per user) and injects the session into browser storage.
+     * Falls back to UI login when session injection is disabled (auth.sessionInjection=false)
+     * or the web app does not pick up the injected session.
+     *
+     * @param loginPage The LoginPage instance
+     * @param userAccount The user account to log in as
+     */
+    public static void loginViaApi(LoginPage loginPage, UserAccount userAccount) {
+        if (!ConfigManager.isSessionInjectionEnabled()) {
+            login(loginPage, userAccount);
+            return;
+        }
+
+        LOG.info("Login via API session as user: " + userAccount.getUsername());
+        LoginResponse session = AuthService.getUserSession(userAccount);
+        loginPage.injectLoginSession(session.getUserJson(), session.getAccessToken());
+
+        if (!loginPage.topBarNavigation.isUserProfileVisible()) {
+            LOG.warn("Injected session not picked up by web app - falling back to UI login");
+            login(loginPage, userAccount);
+        }
+    }
+
     public static void logout(CommonPage page) {
         LOG.info("Log out");
         page.topBarNavigation.clickLogoutLinkAndConfirm();
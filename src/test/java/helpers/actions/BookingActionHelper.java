@@ -1,5 +1,6 @@
 package helpers.actions;
 
+import api.services.ShowtimeCatalogCache;
 import helpers.providers.BookingSampleProvider;
 import helpers.providers.RandomSampleProvider;
 import model.api.response.ShowtimeBooking;
@@ -34,6 +35,17 @@ public class BookingActionHelper {
         bookingPage.navigateToShowtimePage(showtimeId);
     }
 
+    /**
+     * Book the selected seats, then drop the showtime's cached seat data so later tests
+     * don't sample the seats just booked from the suite-scoped catalog.
+     *
+     * @param bookingPage The BookingPage instance, with seats selected
+     */
+    public static void bookSelectedSeats(BookingPage bookingPage) {
+        bookingPage.clickBookTicketsButton();
+        ShowtimeCatalogCache.invalidateShowtime(bookingPage.getShowtimeId());
+    }
+
     public static OrderEntry bookSeatsAndCollectOrderDetails(BookingPage bookingPage, List<String> seatsToBook) {
 
         ShowtimeDetails showtimeDetails = bookingPage.getShowtimeDetailsFromSummary();
@@ -41,6 +53,7 @@ public class BookingActionHelper {
         bookingPage.selectSeatsBySeatNumbers(seatsToBook);
         String totalPrice = bookingPage.getTotalPriceInSummary();
         String purchaseTimestamp = bookingPage.confirmBookingAndGetPurchaseTimestamp();
+        ShowtimeCatalogCache.invalidateShowtime(bookingPage.getShowtimeId());
 
         OrderEntry newOrder = new OrderEntry();
         newOrder.setPurchaseDatetime(purchaseTimestamp)
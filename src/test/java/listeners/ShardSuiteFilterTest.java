@@ -0,0 +1,69 @@
+package listeners;
+
+import config.Shard;
+import org.testng.annotations.Test;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class ShardSuiteFilterTest {
+
+    @Test(groups = "unit")
+    public void everyClassGoesToExactlyOneShard() {
+        Map<String, Double> estimates = new LinkedHashMap<>();
+        for (int i = 0; i < 25; i++) {
+            estimates.put("testcases.TC" + i, 10.0 + (i * 7) % 13);
+        }
+
+        Set<String> seen = new HashSet<>();
+        int assignedCount = 0;
+        for (int index = 1; index <= 3; index++) {
+            Set<String> assigned = ShardSuiteFilter.partition(estimates, Shard.parse(index + "/3"));
+            seen.addAll(assigned);
+            assignedCount += assigned.size();
+        }
+
+        assertEquals(seen, estimates.keySet());
+        assertEquals(assignedCount, estimates.size());
+    }
+
+    @Test(groups = "unit")
+    public void longestClassGoesToLeastLoadedShard() {
+        Map<String, Double> estimates = Map.of("A", 10.0, "B", 8.0, "C", 6.0, "D", 4.0, "E", 2.0);
+
+        // A -> 1, B -> 2, C -> 2 (14), D -> 1 (14), E -> 1 (tie, lowest index)
+        assertEquals(ShardSuiteFilter.partition(estimates, Shard.parse("1/2")), Set.of("A", "D", "E"));
+        assertEquals(ShardSuiteFilter.partition(estimates, Shard.parse("2/2")), Set.of("B", "C"));
+    }
+
+    @Test(groups = "unit")
+    public void partitionDoesNotDependOnInputOrder() {
+        List<String> classNames = List.of("d", "b", "a", "c");
+        Map<String, Double> forward = new LinkedHashMap<>();
+        Map<String, Double> reversed = new LinkedHashMap<>();
+        classNames.forEach(className -> forward.put(className, 20.0));
+        classNames.reversed().forEach(className -> reversed.put(className, 20.0));
+
+        Shard shard = Shard.parse("1/2");
+
+        // Equal estimates: taken by class name, alternating shards
+        assertEquals(ShardSuiteFilter.partition(forward, shard), new TreeSet<>(List.of("a", "c")));
+        assertEquals(ShardSuiteFilter.partition(reversed, shard), ShardSuiteFilter.partition(forward, shard));
+    }
+
+    @Test(groups = "unit")
+    public void extraShardsGetNothing() {
+        Map<String, Double> estimates = Map.of("A", 30.0, "B", 20.0);
+
+        assertEquals(ShardSuiteFilter.partition(estimates, Shard.parse("1/1")), Set.of("A", "B"));
+        assertEquals(ShardSuiteFilter.partition(estimates, Shard.parse("2/4")), Set.of("B"));
+        assertTrue(ShardSuiteFilter.partition(estimates, Shard.parse("4/4")).isEmpty());
+    }
+}
@@ -0,0 +1,77 @@
+package model.ui;
+
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+public class SeatMapSnapshotTest {
+
+    @Test(groups = "unit")
+    public void bookedSeatIsMatchedByPositionDespiteLostLabel() {
+        SeatMapSnapshot before = snapshot(seat("01", false, true), seat("02", false, true), seat("03", false, false));
+        SeatMapSnapshot after = snapshot(seat("X", true, false), seat("X", true, false), seat("03", false, false));
+
+        SeatMapSnapshot.Diff diff = before.diff(after);
+
+        assertEquals(diff.getBecameUnavailable(), List.of("01", "02"));
+        assertEquals(diff.getBecameDeselected(), List.of("01", "02"));
+        assertTrue(diff.getBecameAvailable().isEmpty());
+        assertTrue(diff.getBecameSelected().isEmpty());
+    }
+
+    @Test(groups = "unit")
+    public void releasedSeatTakesLabelFromLaterSnapshot() {
+        SeatMapSnapshot before = snapshot(seat("X", true, false), seat("02", false, false));
+        SeatMapSnapshot after = snapshot(seat("01", false, false), seat("02", false, true));
+
+        SeatMapSnapshot.Diff diff = before.diff(after);
+
+        assertEquals(diff.getBecameAvailable(), List.of("01"));
+        assertEquals(diff.getBecameSelected(), List.of("02"));
+        assertTrue(diff.getBecameUnavailable().isEmpty());
+        assertTrue(diff.getBecameDeselected().isEmpty());
+    }
+
+    @Test(groups = "unit")
+    public void unchangedSeatMapHasEmptyDiff() {
+        SeatMapSnapshot before = snapshot(seat("01", false, true), seat("X", true, false));
+        SeatMapSnapshot after = snapshot(seat("01", false, true), seat("X", true, false));
+
+        assertTrue(before.diff(after).isEmpty());
+    }
+
+    @Test(groups = "unit")
+    public void seatMapsOfDifferentSizeCannotBeDiffed() {
+        SeatMapSnapshot before = snapshot(seat("01", false, false), seat("02", false, false));
+        SeatMapSnapshot after = snapshot(seat("01", false, false));
+
+        assertThrows(IllegalArgumentException.class, () -> before.diff(after));
+    }
+
+    @Test(groups = "unit")
+    public void lookupsFollowDomOrderAndFirstLabel() {
+        SeatMapSnapshot snapshot = snapshot(
+                seat("01", false, false), seat("X", true, false), seat("03", false, true), seat("X", false, false));
+
+        assertEquals(snapshot.getAvailableSeatNumbers(), List.of("01", "03", "X"));
+        assertEquals(snapshot.getSelectedSeatNumbers(), List.of("03"));
+        assertFalse(snapshot.isSeatAvailable("X"));
+        assertFalse(snapshot.isSeatAvailable("99"));
+        assertTrue(snapshot.areSeatsAvailable(List.of("01", "03")));
+        assertFalse(snapshot.areSeatsAvailable(List.of("01", "99")));
+    }
+
+    // ---- Private Helpers ----
+    private static SeatMapSnapshot snapshot(SeatMapSnapshot.Seat... seats) {
+        return new SeatMapSnapshot(List.of(seats));
+    }
+
+    private static SeatMapSnapshot.Seat seat(String seatNumber, boolean disabled, boolean selected) {
+        return new SeatMapSnapshot.Seat(seatNumber, disabled, selected);
+    }
+}
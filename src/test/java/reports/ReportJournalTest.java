@@ -0,0 +1,160 @@
+package reports;
+
+import com.aventstack.extentreports.Status;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class ReportJournalTest {
+
+    private Path tempDir;
+
+    @BeforeClass(alwaysRun = true)
+    public void createTempDir() throws IOException {
+        tempDir = Files.createTempDirectory("report-journal-test");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void deleteTempDir() throws IOException {
+        try (Stream<Path> files = Files.walk(tempDir)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    @Test(groups = "unit")
+    public void eventsAreReadBackInWriteOrder() throws IOException {
+        ReportJournal journal = new ReportJournal(tempDir.resolve("order/report-events.jsonl"));
+        long first = journal.createTest("TC01");
+        long second = journal.createTest("TC02");
+        journal.log(first, Status.PASS, "step passed");
+        journal.screenshot(second, Status.FAIL, "Screenshot captured", "screenshots/abc.jpg");
+        journal.close();
+
+        List<ReportJournal.Event> events = readEvents(journal.getPath());
+
+        assertEquals(events.stream().map(ReportJournal.Event::getType).toList(), List.of(
+                ReportJournal.CREATE_TEST, ReportJournal.CREATE_TEST, ReportJournal.LOG_ENTRY,
+                ReportJournal.SCREENSHOT, ReportJournal.SUITE_END));
+        assertEquals(events.get(0).getMessage(), "TC01");
+        assertEquals(events.get(2).getTestId(), first);
+        assertEquals(events.get(2).getStatus(), "PASS");
+        assertEquals(events.get(3).getTestId(), second);
+        assertEquals(events.get(3).getMediaPath(), "screenshots/abc.jpg");
+        assertFalse(ReportJournal.isIncomplete(journal.getPath()));
+    }
+
+    @Test(groups = "unit")
+    public void summaryIsRecordedApartFromTests() throws IOException {
+        ReportJournal journal = new ReportJournal(tempDir.resolve("summary/report-events.jsonl"));
+        journal.createTest("TC01");
+        journal.summary("Test Timing Summary", "<table></table>");
+        journal.close();
+
+        ReportJournal.Event summary = readEvents(journal.getPath()).get(1);
+        assertEquals(summary.getType(), ReportJournal.SUMMARY);
+        assertEquals(summary.getTitle(), "Test Timing Summary");
+        assertEquals(summary.getMessage(), "<table></table>");
+        assertEquals(summary.getTestId(), 0);
+    }
+
+    @Test(groups = "unit")
+    public void journalWithoutSuiteEndIsIncomplete() throws IOException {
+        // Not closed - as left by a JVM that died mid-run
+        ReportJournal journal = new ReportJournal(tempDir.resolve("crashed/report-events.jsonl"));
+        long testId = journal.createTest("TC01");
+        journal.log(testId, Status.INFO, "before crash");
+
+        assertTrue(ReportJournal.isIncomplete(journal.getPath()));
+        assertEquals(readEvents(journal.getPath()).size(), 2);
+        journal.close();
+    }
+
+    @Test(groups = "unit")
+    public void truncatedLastLineIsSkippedOnRecovery() throws IOException {
+        Path path = tempDir.resolve("truncated/report-events.jsonl");
+        ReportJournal journal = new ReportJournal(path);
+        long testId = journal.createTest("TC01");
+        journal.log(testId, Status.FAIL, "assertion failed");
+        journal.close();
+        // Replace SUITE_END with half a line, as left by a crash mid-write
+        List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+        lines.set(lines.size() - 1, "{\"type\":\"LOG\",\"testId\":" + testId + ",\"sta");
+        Files.write(path, lines, StandardCharsets.UTF_8);
+
+        assertTrue(ReportJournal.isIncomplete(path));
+        assertEquals(readEvents(path).stream().map(ReportJournal.Event::getType).toList(),
+                List.of(ReportJournal.CREATE_TEST, ReportJournal.LOG_ENTRY));
+    }
+
+    @Test(groups = "unit")
+    public void missingOrEmptyJournalIsNotIncomplete() throws IOException {
+        Path empty = tempDir.resolve("empty.jsonl");
+        Files.writeString(empty, "\n\n");
+
+        assertFalse(ReportJournal.isIncomplete(tempDir.resolve("missing.jsonl")));
+        assertFalse(ReportJournal.isIncomplete(empty));
+    }
+
+    @Test(groups = "unit")
+    public void newJournalReplacesPreviousRun() throws IOException {
+        Path path = tempDir.resolve("replaced/report-events.jsonl");
+        ReportJournal previous = new ReportJournal(path);
+        previous.createTest("previous run");
+        previous.close();
+
+        ReportJournal journal = new ReportJournal(path);
+        journal.createTest("this run");
+        journal.close();
+
+        List<ReportJournal.Event> events = readEvents(path);
+        assertEquals(events.size(), 2);
+        assertEquals(events.get(0).getMessage(), "this run");
+    }
+
+    @Test(groups = "unit")
+    public void concurrentWritesKeepEveryLineReadable() throws Exception {
+        ReportJournal journal = new ReportJournal(tempDir.resolve("concurrent/report-events.jsonl"));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            executor.submit(() -> {
+                long testId = journal.createTest(Thread.currentThread().getName());
+                for (int i = 0; i < 100; i++) {
+                    journal.log(testId, Status.INFO, "step " + i);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        journal.close();
+
+        List<ReportJournal.Event> events = readEvents(journal.getPath());
+        assertEquals(Files.readAllLines(journal.getPath()).size(), events.size());
+        assertEquals(events.stream().filter(e -> ReportJournal.LOG_ENTRY.equals(e.getType())).count(), 800);
+        assertEquals(events.stream().filter(e -> ReportJournal.CREATE_TEST.equals(e.getType())).count(), 8);
+    }
+
+    // ---- Private Helpers ----
+    private static List<ReportJournal.Event> readEvents(Path journal) throws IOException {
+        List<ReportJournal.Event> events = new ArrayList<>();
+        ReportJournal.forEachEvent(journal, events::add);
+        return events;
+    }
+}
@@ -0,0 +1,67 @@
+package reports;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.assertThrows;
+
+public class ReportMergerTest {
+
+    private Path bundleRoot;
+
+    @BeforeMethod(alwaysRun = true)
+    public void createBundleRoot() throws IOException {
+        bundleRoot = Files.createTempDirectory("report-merger-test");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteBundleRoot() throws IOException {
+        try (Stream<Path> files = Files.walk(bundleRoot)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    @Test(groups = "unit")
+    public void acceptsCompleteShardSet() throws IOException {
+        ReportMerger.checkShards(List.of(shardBundle(1, 3), shardBundle(2, 3), shardBundle(3, 3)));
+    }
+
+    @Test(groups = "unit")
+    public void ignoresBundlesWithoutManifest() throws IOException {
+        Path workerBundle = Files.createDirectories(bundleRoot.resolve("worker-1"));
+
+        ReportMerger.checkShards(List.of(workerBundle, shardBundle(1, 1)));
+    }
+
+    @Test(groups = "unit")
+    public void rejectsMixedShardTotals() throws IOException {
+        List<Path> bundles = List.of(shardBundle(1, 2), shardBundle(2, 2), shardBundle(1, 3));
+
+        assertThrows(IllegalStateException.class, () -> ReportMerger.checkShards(bundles));
+    }
+
+    @Test(groups = "unit")
+    public void rejectsMissingShard() throws IOException {
+        List<Path> bundles = List.of(shardBundle(1, 3), shardBundle(3, 3));
+
+        assertThrows(IllegalStateException.class, () -> ReportMerger.checkShards(bundles));
+    }
+
+    // ---- Private Helpers ----
+    private Path shardBundle(int index, int total) throws IOException {
+        Path bundle = Files.createDirectories(bundleRoot.resolve("shard-" + index + "-of-" + total));
+        Files.writeString(bundle.resolve("bundle.json"),
+                "{\"shard\":\"" + index + "/" + total + "\",\"index\":" + index + ",\"total\":" + total + "}");
+        return bundle;
+    }
+}
@@ -0,0 +1,111 @@
+package runner;
+
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class TestCoordinatorTest {
+
+    @Test(groups = "unit")
+    public void classesAreServedInQueueOrder() throws InterruptedException {
+        TestCoordinator coordinator = new TestCoordinator(List.of("A", "B"), 2);
+
+        assertEquals(coordinator.takeNext(), "A");
+        assertEquals(coordinator.takeNext(), "B");
+        coordinator.complete("1.1", result("A"));
+        coordinator.complete("1.2", result("B"));
+
+        assertNull(coordinator.takeNext());
+    }
+
+    @Test(groups = "unit")
+    public void classOfDeadWorkerGoesBackToHeadOfQueue() throws InterruptedException {
+        TestCoordinator coordinator = new TestCoordinator(List.of("A", "B"), 2);
+
+        assertEquals(coordinator.takeNext(), "A");
+        coordinator.requeue("1.1", "A");
+
+        assertEquals(coordinator.takeNext(), "A");
+        assertEquals(coordinator.takeNext(), "B");
+        assertTrue(coordinator.getAbandoned().isEmpty());
+    }
+
+    @Test(groups = "unit")
+    public void classIsAbandonedAfterMaxAttempts() throws InterruptedException {
+        TestCoordinator coordinator = new TestCoordinator(List.of("A", "B"), 2);
+
+        assertEquals(coordinator.takeNext(), "A");
+        coordinator.requeue("1.1", "A");
+        assertEquals(coordinator.takeNext(), "A");
+        coordinator.requeue("2.1", "A");
+
+        assertEquals(coordinator.getAbandoned(), Set.of("A"));
+        assertEquals(coordinator.takeNext(), "B");
+        coordinator.complete("2.1", result("B"));
+        assertNull(coordinator.takeNext());
+    }
+
+    @Test(groups = "unit")
+    public void nextWaitsWhileRunningClassMayComeBack() throws Exception {
+        TestCoordinator coordinator = new TestCoordinator(List.of("A"), 2);
+        assertEquals(coordinator.takeNext(), "A");
+
+        CompletableFuture<String> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return coordinator.takeNext();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Thread.sleep(200);
+        assertFalse(waiting.isDone(), "NEXT must block while A is still running");
+
+        coordinator.requeue("1.1", "A");
+        assertEquals(waiting.get(5, TimeUnit.SECONDS), "A");
+    }
+
+    @Test(groups = "unit")
+    public void nextReturnsNothingOnceLastRunningClassCompletes() throws Exception {
+        TestCoordinator coordinator = new TestCoordinator(List.of("A"), 2);
+        assertEquals(coordinator.takeNext(), "A");
+
+        CompletableFuture<String> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return coordinator.takeNext();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        coordinator.complete("1.1", result("A"));
+
+        assertNull(waiting.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test(groups = "unit")
+    public void classOfKilledWorkerFailsInsteadOfGoingBack() throws InterruptedException {
+        TestCoordinator coordinator = new TestCoordinator(List.of("A", "B"), 2);
+
+        assertEquals(coordinator.takeNext(), "A");
+        assertEquals(coordinator.takeNext(), "B");
+        coordinator.markKilled("1");
+        coordinator.requeue("1.2", "A");
+        coordinator.requeue("2.1", "B");
+
+        assertEquals(coordinator.getTimedOut(), Set.of("A"));
+        assertEquals(coordinator.takeNext(), "B");
+    }
+
+    // ---- Private Helpers ----
+    // RESULT <className> <passed> <failed> <skipped> <millis>
+    private static String[] result(String className) {
+        return new String[]{TestCoordinator.RESULT, className, "3", "0", "0", "1500"};
+    }
+}
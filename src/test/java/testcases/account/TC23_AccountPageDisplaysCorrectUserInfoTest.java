@@ -20,7 +20,7 @@ public class TC23_AccountPageDisplaysCorrectUserInfoTest extends BaseTest {
 
         ExtentReportManager.info("Login");
         UserAccount testUser = getTestUser();
-        AuthActionHelper.login(loginPage, testUser);
+        AuthActionHelper.loginViaApi(loginPage, testUser);
 
         ExtentReportManager.info("Navigate to account page and collect displayed user info");
         AccountPage accountPage = new AccountPage(getDriver());
@@ -24,7 +24,7 @@ public class TC24_UpdateValidNewUserInfoTest extends BaseTest {
         // Login
         ExtentReportManager.info("Login");
         UserAccount testUser = getTestUser();
-        AuthActionHelper.login(loginPage, testUser);
+        AuthActionHelper.loginViaApi(loginPage, testUser);
 
         // Navigate to account page and update user info: Name, Email, Phone Number
         ExtentReportManager.info("Navigate to account page and update user info: name, email, phone number");
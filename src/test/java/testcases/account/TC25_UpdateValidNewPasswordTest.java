@@ -21,7 +21,7 @@ public class TC25_UpdateValidNewPasswordTest extends BaseTest {
         ExtentReportManager.info("Login");
         LoginPage loginPage = new LoginPage(getDriver());
         UserAccount testUser = getTestUser();
-        AuthActionHelper.login(loginPage,testUser);
+        AuthActionHelper.loginViaApi(loginPage,testUser);
 
         // Navigate to Account page and update password
         ExtentReportManager.info("Navigate to account page and update password");
@@ -25,7 +25,7 @@ public class TC26_UpdateWithEmptyFieldTest extends BaseTest {
         // Login
         ExtentReportManager.info("Login with newly created user credentials");
         UserAccount testUser = getTestUser();
-        AuthActionHelper.login(loginPage, testUser);
+        AuthActionHelper.loginViaApi(loginPage, testUser);
 
         // Attempt to update user info: valid email, valid phone number but empty phone number
         ExtentReportManager.info("Navigate to account page and attempt update with empty phone number");
@@ -25,7 +25,7 @@ public class TC27_UpdateWithInvalidInputTest extends BaseTest {
         // Login
         ExtentReportManager.info("Login");
         UserAccount testUser = getTestUser();
-        AuthActionHelper.login(loginPage, testUser);
+        AuthActionHelper.loginViaApi(loginPage, testUser);
 
         // Attempt to update user info with valid phone nr and email but invalid name (containing numbers)
         ExtentReportManager.info("Navigate to account page and attempt update with invalid full name");
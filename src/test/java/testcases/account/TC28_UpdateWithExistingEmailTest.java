@@ -23,7 +23,7 @@ public class TC28_UpdateWithExistingEmailTest extends BaseTest {
         ExtentReportManager.info("Login with newly created user credentials");
         LoginPage loginPage = new LoginPage(getDriver());
         UserAccount testUser = getTestUser();
-        AuthActionHelper.login(loginPage, testUser);
+        AuthActionHelper.loginViaApi(loginPage, testUser);
 
         // Attempt to update user info with valid phone nr and email but invalid name (containing numbers)
         ExtentReportManager.info("Navigate to account page and attempt update with invalid full name");
@@ -19,7 +19,7 @@ public class TC29_UsernameReadonlyTest extends BaseTest {
         // Login
         ExtentReportManager.info("Login with newly created user credentials");
         UserAccount testUser = getTestUser();
-        AuthActionHelper.login(loginPage, testUser);
+        AuthActionHelper.loginViaApi(loginPage, testUser);
 
         // Attempt to change username field value
         ExtentReportManager.info("Navigate to account page and attempt update with invalid full name");
@@ -18,7 +18,7 @@ public class TC30_UserTypeReadonlyTest extends BaseTest {
         // Login
         ExtentReportManager.info("Login with newly created user credentials");
         UserAccount testUser = getTestUser();
-        AuthActionHelper.login(loginPage, testUser);
+        AuthActionHelper.loginViaApi(loginPage, testUser);
 
         // Attempt to select Admin option from UserType dropdown
         ExtentReportManager.info("Navigate select Admin option from UserType dropdown");
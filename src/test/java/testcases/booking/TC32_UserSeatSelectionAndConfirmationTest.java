@@ -26,7 +26,7 @@ public class TC32_UserSeatSelectionAndConfirmationTest extends BaseTest {
         // Login
         ExtentReportManager.info("Login");
         UserAccount testUser = getTestUser();
-        AuthActionHelper.login(loginPage, testUser);
+        AuthActionHelper.loginViaApi(loginPage, testUser);
 
         // Find a random showtime with available seats (from API data) and navigate to its booking page
         ExtentReportManager.info("Navigate to showtime booking page");
@@ -37,7 +37,7 @@ public class TC32_UserSeatSelectionAndConfirmationTest extends BaseTest {
         List<String> seatsToBook = BookingSampleProvider.getSampleAvailableSeats(bookingPage);
 
         bookingPage.selectSeatsBySeatNumbers(seatsToBook);
-        bookingPage.clickBookTicketsButton();
+        BookingActionHelper.bookSelectedSeats(bookingPage);
 
         // Verify booking success - success alert displayed with correct message, seats no longer available after refresh
         ExtentReportManager.info("Verify booking success");
@@ -23,7 +23,7 @@ public class TC34_EmptySeatSelectionAlertTest extends BaseTest {
         // Login
         ExtentReportManager.info("Login");
         UserAccount testUser = getTestUser();
-        AuthActionHelper.login(loginPage, testUser);
+        AuthActionHelper.loginViaApi(loginPage, testUser);
 
         // Find a random showtime with available seats (from API data) and navigate to its booking page
         ExtentReportManager.info("Navigate to showtime booking page");
@@ -1,5 +1,6 @@
 package testcases.browsing;
 
+import api.BrowserResponseCapture;
 import api.services.CinemaService;
 import api.services.MovieService;
 import base.BaseTest;
@@ -61,21 +62,23 @@ public class TC35_DropdownDisplaysCorrectDataTest extends BaseTest {
         ExtentReportManager.info("Iterate through list of movies and cinema branches to verify cinema branches and showtime options match API");
         // ---- Iterate through each movie option ----
         Set<String> movieIds = moviesFromUI.keySet();
+        CinemaService cinemaService = new CinemaService();
         for (String movieId : movieIds) {
             String movieTitle = moviesFromUI.get(movieId);
 
             // ---- Verify Cinema Dropdown: API vs UI ----
-            // Get cinema branches from API and map cinemaId -> cinemaName
-            CinemaService cinemaService = new CinemaService();
-            MovieSchedule movieShowtimes = cinemaService.getShowtimesForMovie(movieId);
-            Map<String, String> cinemaBranchesFromAPI = movieShowtimes.getCinemaBranchIdToNameMap();
-
             // Refresh page, select movie then get cinema branches from UI dropdown and map cinemaId -> cinemaName
             homePage.refreshPage();
             homePage.showtimeFilterDropdowns.waitForDropdownsToLoad();
             homePage.showtimeFilterDropdowns.selectMovieByMovieTitle(movieTitle);
             Map<String, String> cinemaBranchesFromUI = homePage.showtimeFilterDropdowns.getCinemaBranchOptionIdToNameMap();
 
+            // Get cinema branches from the schedule API response the page received (API call if not captured)
+            // and map cinemaId -> cinemaName
+            MovieSchedule movieShowtimes = BrowserResponseCapture.forDriver(getDriver()).getMovieSchedule(movieId)
+                    .orElseGet(() -> cinemaService.getShowtimesForMovie(movieId));
+            Map<String, String> cinemaBranchesFromAPI = movieShowtimes.getCinemaBranchIdToNameMap();
+
             // If no cinemas from API for this movie, log warning
             if (cinemaBranchesFromAPI.isEmpty() && cinemaBranchesFromUI.isEmpty()) {
                 ExtentReportManager.warn("No cinemas found in UI dropdown and API. Movie: " + movieTitle + " should be removed from UI dropdown.");
@@ -93,8 +96,8 @@ public class TC35_DropdownDisplaysCorrectDataTest extends BaseTest {
             for (String cinemaBranchId : cinemaBranchIds) {
                 String cinemaBranchName = cinemaBranchesFromUI.get(cinemaBranchId);
 
-                // Get showtimes from API map showtimeId -> dateTime
-                Map<String, String> showtimesFromAPI = cinemaService.getShowtimeIdToDatetimeMap(movieId, cinemaBranchId);
+                // Get showtimes from the same movie schedule and map showtimeId -> dateTime
+                Map<String, String> showtimesFromAPI = movieShowtimes.getShowtimeIdToDatetimeMap(cinemaBranchId);
 
                 // Refresh page and wait for dropdowns to load then select movie and cinema branch in UI dropdowns
                 homePage.refreshPage();
@@ -0,0 +1,116 @@
+package utils;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+public class ConcurrentFetcherTest {
+
+    @Test(groups = "unit")
+    public void fetchAllReturnsOneResultPerInput() {
+        List<Integer> inputs = IntStream.range(0, 50).boxed().toList();
+
+        List<Integer> results = new ArrayList<>(ConcurrentFetcher.fetchAll(inputs, i -> i * 2, 8));
+
+        results.sort(null);
+        assertEquals(results, inputs.stream().map(i -> i * 2).toList());
+    }
+
+    @Test(groups = "unit")
+    public void resultsAreInCompletionOrder() {
+        List<Integer> results = ConcurrentFetcher.fetchAll(List.of(300, 0), delay -> {
+            sleep(delay);
+            return delay;
+        }, 2);
+
+        assertEquals(results, List.of(0, 300));
+    }
+
+    @Test(groups = "unit")
+    public void neverExceedsConcurrency() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        ConcurrentFetcher.fetchAll(IntStream.range(0, 40).boxed().toList(), i -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            sleep(5);
+            inFlight.decrementAndGet();
+            return i;
+        }, 3);
+
+        assertTrue(maxInFlight.get() <= 3, "Max in flight: " + maxInFlight.get());
+    }
+
+    @Test(groups = "unit")
+    public void fetchUntilStopsSubmittingAtLimit() {
+        AtomicInteger calls = new AtomicInteger();
+
+        List<Integer> results = ConcurrentFetcher.fetchUntil(IntStream.range(0, 100).boxed().toList(), i -> {
+            calls.incrementAndGet();
+            return i;
+        }, i -> i % 2 == 0, 3, 1);
+
+        assertEquals(results, List.of(0, 2, 4));
+        // Sequential window: inputs 0..4 are enough for three even results
+        assertEquals(calls.get(), 5);
+    }
+
+    @Test(groups = "unit")
+    public void fetchUntilCancelsCallsInFlight() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(2);
+
+        long start = System.nanoTime();
+        List<Integer> results = ConcurrentFetcher.fetchUntil(List.of(0, 1, 2), i -> {
+            if (i == 0) {
+                return i;
+            }
+            try {
+                Thread.sleep(30_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return i;
+        }, i -> true, 1, 3);
+
+        assertEquals(results, List.of(0));
+        assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start) < 10, "Blocked calls were awaited");
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS), "Calls in flight were not cancelled");
+    }
+
+    @Test(groups = "unit")
+    public void emptyInputOrZeroLimitFetchesNothing() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertTrue(ConcurrentFetcher.fetchAll(List.<Integer>of(), calls::addAndGet, 4).isEmpty());
+        assertTrue(ConcurrentFetcher.fetchUntil(List.of(1, 2), calls::addAndGet, i -> true, 0, 4).isEmpty());
+        assertEquals(calls.get(), 0);
+    }
+
+    @Test(groups = "unit")
+    public void fetcherExceptionIsRethrownAsIs() {
+        assertThrows(IllegalArgumentException.class, () -> ConcurrentFetcher.fetchAll(List.of(1, 2, 3), i -> {
+            if (i == 2) {
+                throw new IllegalArgumentException("bad input " + i);
+            }
+            return i;
+        }, 2));
+    }
+
+    // ---- Private Helpers ----
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
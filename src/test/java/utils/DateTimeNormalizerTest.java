@@ -0,0 +1,95 @@
+package utils;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+
+/**
+ * The fast path of normalize() must give exactly what the formatters give (parseWithKnownFormats),
+ * including for the inputs the formatters resolve or reject.
+ */
+public class DateTimeNormalizerTest {
+
+    @DataProvider
+    public Object[][] edgeCases() {
+        return new Object[][]{
+                // Every known format
+                {"24/12/2021 ~ 13:35"}, {"17/10/2021 -08:10"}, {"17/10/2021 08:10"}, {"01-01-2019 ~ 14:10"},
+                {"11-01-2026 | 16:48"}, {"2021-10-17T08:43:00"}, {"17-10-2021 08:43"}, {"  17/10/2021 08:10  "},
+                // Day out of month range
+                {"31/04/2021 10:00"}, {"31-04-2021 10:00"}, {"2021-04-31T10:00:00"}, {"32/01/2021 10:00"},
+                // 29 February in leap, non-leap and century years
+                {"29/02/2024 10:00"}, {"29/02/2021 10:00"}, {"29/02/1900 10:00"}, {"29/02/2000 10:00"},
+                {"2021-02-29T10:00:00"}, {"2024-02-29T10:00:00"},
+                // Hour 24
+                {"31/12/2021 24:00"}, {"31/12/2021 24:01"}, {"2021-12-31T24:00:00"}, {"17/10/2021 23:59"},
+                // Year 0000 and 5-digit years
+                {"01/01/0000 10:00"}, {"0000-01-01T10:00:00"}, {"01/01/0001 10:00"}, {"01/01/10000 10:00"},
+                {"+10000-01-01T10:00:00"}, {"10000-01-01T10:00:00"},
+                // Lowercase t, missing or partial seconds
+                {"2021-10-17t08:43:00"}, {"2021-10-17T08:43"}, {"2021-10-17T08:43:0"}, {"2021-10-17T08:43:60"},
+                // Fractions of a second
+                {"2021-10-17T08:43:00.5"}, {"2021-10-17T08:43:00.123456789"}, {"2021-10-17T08:43:00.1234567890"},
+                {"2021-10-17T08:43:00."}, {"2021-10-17T08:43:00,5"},
+                // Wrong separators and garbage
+                {"17/10-2021 08:10"}, {"17-10-2021 -08:10"}, {"17/10/2021 | 08:10"}, {"17/10/2021  08:10"},
+                {"17/10/2021 08.10"}, {"1/10/2021 08:10"}, {"17/10/2021 8:10"}, {"١٧/١٠/٢٠٢١ ٠٨:١٠"}, {"not a date"}
+        };
+    }
+
+    @Test(groups = "unit", dataProvider = "edgeCases")
+    public void normalizeMatchesKnownFormats(String datetime) {
+        assertMatchesKnownFormats(datetime);
+    }
+
+    @Test(groups = "unit")
+    public void normalizeMatchesKnownFormatsOnRandomDates() {
+        String[] shapes = {"%s/%s/%s ~ %s:%s", "%s/%s/%s -%s:%s", "%s/%s/%s %s:%s", "%s-%s-%s ~ %s:%s",
+                "%s-%s-%s | %s:%s", "%s-%s-%s %s:%s"};
+        Random random = new Random(25);
+        for (int i = 0; i < 20_000; i++) {
+            String day = twoDigits(random.nextInt(33));
+            String month = twoDigits(random.nextInt(14));
+            String year = String.format(Locale.ROOT, "%04d", random.nextInt(10) == 0 ? random.nextInt(10_000) : 1999 + random.nextInt(30));
+            String hour = twoDigits(random.nextInt(26));
+            String minute = twoDigits(random.nextInt(61));
+            assertMatchesKnownFormats(String.format(shapes[random.nextInt(shapes.length)], day, month, year, hour, minute));
+            assertMatchesKnownFormats(year + "-" + month + "-" + day + "T" + hour + ":" + minute + ":" + minute);
+        }
+    }
+
+    @Test(groups = "unit")
+    public void memoizedResultIsStable() {
+        String resolved = "31/04/2021 10:00";
+
+        assertEquals(DateTimeNormalizer.normalize(resolved), DateTimeNormalizer.parseWithKnownFormats(resolved));
+        assertEquals(DateTimeNormalizer.normalize(resolved), DateTimeNormalizer.parseWithKnownFormats(resolved));
+    }
+
+    @Test(groups = "unit")
+    public void nullOrBlankIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> DateTimeNormalizer.normalize((String) null));
+        assertThrows(IllegalArgumentException.class, () -> DateTimeNormalizer.normalize("   "));
+        assertThrows(IllegalArgumentException.class, () -> DateTimeNormalizer.normalize((LocalDateTime) null));
+    }
+
+    // ---- Private Helpers ----
+    private static void assertMatchesKnownFormats(String datetime) {
+        String expected = DateTimeNormalizer.parseWithKnownFormats(datetime.trim());
+        if (expected == null) {
+            assertThrows(IllegalArgumentException.class, () -> DateTimeNormalizer.normalize(datetime));
+        } else {
+            assertEquals(DateTimeNormalizer.normalize(datetime), expected, "Input: " + datetime);
+        }
+    }
+
+    private static String twoDigits(int value) {
+        return String.format(Locale.ROOT, "%02d", value);
+    }
+}